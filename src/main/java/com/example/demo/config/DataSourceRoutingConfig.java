@@ -0,0 +1,65 @@
+package com.example.demo.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Separa lecturas y escrituras en dos pools Hikari (primario y réplica).
+ * Se activa con {@code app.datasource.routing.enabled=true}; si no, se usa el
+ * DataSource único de {@code spring.datasource.*}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.primary")
+    public HikariDataSource primaryDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    /**
+     * El chequeo corre en segundo plano; Spring cierra su hilo con {@code close()} al parar.
+     */
+    @Bean
+    public ReplicaLagPolicy replicaLagPolicy(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.routing.lag-query:}") String lagQuery,
+            @Value("${app.datasource.routing.max-lag:5s}") Duration maxLag,
+            @Value("${app.datasource.routing.check-interval:2s}") Duration checkInterval) {
+        ReplicaLagPolicy policy = new ReplicaLagPolicy(replica, lagQuery, maxLag, checkInterval);
+        policy.start();
+        return policy;
+    }
+
+    /**
+     * El proxy perezoso retrasa la obtención de la conexión hasta la primera sentencia,
+     * cuando la transacción ya está marcada como readOnly y el enrutamiento puede decidir.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagPolicy replicaLagPolicy) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, replicaLagPolicy));
+    }
+}
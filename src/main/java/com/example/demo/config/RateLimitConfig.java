@@ -0,0 +1,71 @@
+package com.example.demo.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.demo.limit.RateLimitInterceptor;
+import com.example.demo.limit.RateLimitProperties;
+import com.example.demo.limit.TokenBucketStore;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitConfig(RateLimitProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        requireExplicitProxies(environment);
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean
+    public TokenBucketStore tokenBucketStore() {
+        TokenBucketStore store = new TokenBucketStore(
+                properties.capacity(),
+                properties.refillPerSecond(),
+                properties.maxClients(),
+                properties.sweepInterval().toNanos(),
+                System::nanoTime,
+                task -> Thread.ofVirtual().name("rate-limit-sweeper").start(task));
+        Gauge.builder("ratelimit.clients", store, TokenBucketStore::size)
+                .description("Clientes con bucket activo")
+                .register(meterRegistry);
+        return store;
+    }
+
+    /**
+     * Va antes del control de admisión: rechazar por cliente no debe ocupar permisos de concurrencia.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(tokenBucketStore(), properties))
+                .addPathPatterns("/api/v1/products/**")
+                .excludePathPatterns("/api/v1/products/health")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+
+    /**
+     * Los buckets por IP salen de X-Forwarded-For solo si la petición viene de un proxy de
+     * confianza. El valor por defecto de Tomcat confía en cualquier dirección privada, así que
+     * al activar los forwarded headers se exige nombrar el balanceador.
+     */
+    static void requireExplicitProxies(Environment environment) {
+        boolean forwardedHeaders = "native".equalsIgnoreCase(environment.getProperty("server.forward-headers-strategy"));
+        if (forwardedHeaders && !environment.containsProperty("server.tomcat.remoteip.internal-proxies")) {
+            throw new IllegalStateException("server.forward-headers-strategy=native requiere "
+                    + "server.tomcat.remoteip.internal-proxies con las IPs del balanceador");
+        }
+    }
+}
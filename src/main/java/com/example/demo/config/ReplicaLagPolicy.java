@@ -0,0 +1,117 @@
+package com.example.demo.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
+
+/**
+ * Decide si la réplica puede atender lecturas. El chequeo corre en un hilo propio
+ * cada {@code checkInterval}; los hilos de petición solo leen el último resultado
+ * y nunca esperan a la réplica.
+ * <p>
+ * Si hay {@code lagQuery}, debe devolver el retraso de la réplica en segundos
+ * (p. ej. en PostgreSQL {@code SELECT EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())}).
+ * Un resultado vacío o {@code NULL} (en PostgreSQL, antes de reproducir la primera
+ * transacción) deja la réplica fuera: su estado es desconocido.
+ * Sin consulta solo se valida que la réplica acepte conexiones.
+ */
+public class ReplicaLagPolicy implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagPolicy.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+
+    private volatile boolean replicaUsable;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagPolicy(DataSource replica, String lagQuery, Duration maxLag, Duration checkInterval) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    /**
+     * Hace un primer chequeo y programa los siguientes en segundo plano.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        refresh();
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("replica-lag-probe").daemon().factory());
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::refresh, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * Comprueba la réplica en el hilo actual y actualiza el resultado.
+     */
+    public void refresh() {
+        replicaUsable = probe();
+    }
+
+    /**
+     * Saca la réplica de servicio hasta el siguiente chequeo correcto. Lo usa el
+     * enrutamiento cuando no consigue una conexión del pool de la réplica.
+     */
+    public void markUnavailable(SQLException cause) {
+        if (replicaUsable) {
+            log.warn("Réplica sin conexiones disponibles, lecturas enviadas al primario: {}", cause.getMessage());
+        }
+        replicaUsable = false;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    private boolean probe() {
+        try (Connection con = replica.getConnection()) {
+            if (!StringUtils.hasText(lagQuery)) {
+                return con.isValid(1);
+            }
+            try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(lagQuery)) {
+                double lagSeconds = rs.next() ? rs.getDouble(1) : Double.NaN;
+                if (Double.isNaN(lagSeconds) || rs.wasNull()) {
+                    log.warn("La consulta de retraso de la réplica no devolvió valor, lecturas enviadas al primario");
+                    return false;
+                }
+                boolean usable = lagSeconds * 1000 <= maxLag.toMillis();
+                if (!usable) {
+                    log.warn("Réplica con retraso de {}s (máximo {}), lecturas enviadas al primario", lagSeconds, maxLag);
+                }
+                return usable;
+            }
+        } catch (SQLException ex) {
+            log.warn("Réplica no disponible, lecturas enviadas al primario: {}", ex.getMessage());
+            return false;
+        } catch (RuntimeException ex) {
+            log.warn("Error comprobando la réplica, lecturas enviadas al primario", ex);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.demo.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de concurrencia adaptativo por gradiente: cada endpoint compara su latencia
+ * reciente con su propio {@link LatencyBaseline}. Mientras se mantiene dentro de la
+ * tolerancia y el límite se está usando, sube de a uno; si la supera, el límite se
+ * multiplica por el gradiente, sin bajar más de {@code backoffRatio} de una vez.
+ * Así un endpoint lento por naturaleza no recorta el límite de los demás.
+ * <p>
+ * Se recorta como mucho una vez por ida y vuelta: una petición admitida antes del
+ * último recorte no vuelve a recortar, porque su lentitud ya estaba medida. Si no,
+ * N peticiones lentas que terminan juntas bajarían el límite {@code backoffRatio^N}.
+ * <p>
+ * Cada endpoint solo puede ocupar una fracción ({@code share}) del límite, así
+ * los endpoints con fracción 1.0 conservan capacidad reservada frente a los demás.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** Bits de un {@code double}, para ajustar el límite con CAS */
+    private final AtomicLong limitBits;
+    private final AtomicLong lastDecreaseNanos = new AtomicLong(Long.MIN_VALUE);
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, backoffRatio, System::nanoTime);
+    }
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio,
+            LongSupplier nanoClock) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Se requiere 1 <= minLimit <= initialLimit <= maxLimit");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio debe estar entre 0 y 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.limitBits = new AtomicLong(Double.doubleToRawLongBits(initialLimit));
+    }
+
+    /**
+     * Intenta ocupar un permiso; devuelve {@code false} si el endpoint ya usa su fracción del límite.
+     */
+    public boolean tryAcquire(double share) {
+        int allowed = Math.max(1, (int) (limit() * share));
+        for (;;) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Libera el permiso y ajusta el límite comparando la latencia con la base del endpoint.
+     */
+    public void release(LatencyBaseline baseline, long latencyNanos) {
+        int current = inFlight.getAndDecrement();
+        double gradient = baseline.gradient(latencyNanos);
+        if (gradient < 1.0 && !claimDecrease(latencyNanos)) {
+            return;
+        }
+        for (;;) {
+            long bits = limitBits.get();
+            double limit = Double.longBitsToDouble(bits);
+            double next;
+            if (gradient < 1.0) {
+                next = Math.max(minLimit, limit * Math.max(backoffRatio, gradient));
+            } else if (current * 2 >= limit) {
+                next = Math.min(maxLimit, limit + 1);
+            } else {
+                return;
+            }
+            if (next == limit || limitBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reserva el recorte si no hubo otro desde que se admitió la petición.
+     */
+    private boolean claimDecrease(long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        long admittedAt = now - latencyNanos;
+        for (;;) {
+            long last = lastDecreaseNanos.get();
+            if (admittedAt < last) {
+                return false;
+            }
+            if (lastDecreaseNanos.compareAndSet(last, now)) {
+                return true;
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private double limit() {
+        return Double.longBitsToDouble(limitBits.get());
+    }
+}
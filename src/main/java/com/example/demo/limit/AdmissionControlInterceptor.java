@@ -0,0 +1,80 @@
+package com.example.demo.limit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.demo.exception.ServiceOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Aplica el {@link AdaptiveConcurrencyLimiter} antes de entrar al controlador.
+ * Si no hay capacidad se rechaza de inmediato con {@link ServiceOverloadedException}
+ * en lugar de dejar la petición esperando en la cola de Tomcat. Cada endpoint
+ * tiene su propio {@link LatencyBaseline}.
+ */
+public class AdmissionControlInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = AdmissionControlInterceptor.class.getName() + ".start";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final AdmissionControlProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final Map<String, LatencyBaseline> baselines = new ConcurrentHashMap<>();
+
+    public AdmissionControlInterceptor(AdaptiveConcurrencyLimiter limiter, AdmissionControlProperties properties,
+            MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        String endpoint = handlerMethod.getMethod().getName();
+        if (!limiter.tryAcquire(properties.shareFor(endpoint))) {
+            rejections.computeIfAbsent(endpoint, this::rejectionCounter).increment();
+            throw new ServiceOverloadedException(
+                    "Servicio saturado, intente nuevamente más tarde", properties.retryAfterSeconds());
+        }
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        if (request.getAttribute(START_ATTRIBUTE) instanceof Long start
+                && handler instanceof HandlerMethod handlerMethod) {
+            String endpoint = handlerMethod.getMethod().getName();
+            limiter.release(baselines.computeIfAbsent(endpoint, this::baseline), System.nanoTime() - start);
+        }
+    }
+
+    private LatencyBaseline baseline(String endpoint) {
+        LatencyBaseline baseline = new LatencyBaseline(properties.toleranceFor(endpoint), properties.baselineWindow());
+        Gauge.builder("admission.baseline", baseline, b -> b.getBaselineNanos() / 1_000_000.0)
+                .description("Latencia de referencia del endpoint en milisegundos")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return baseline;
+    }
+
+    private Counter rejectionCounter(String endpoint) {
+        return Counter.builder("admission.rejected")
+                .description("Peticiones rechazadas por el control de admisión")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.demo.limit;
+
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del control de admisión ({@code app.admission.*}).
+ * {@code endpointShare} y {@code endpointTolerance} se indexan por el nombre del método
+ * del controlador; los endpoints sin entrada pueden usar el límite completo y la
+ * tolerancia general. La tolerancia es cuántas veces su latencia de referencia acepta
+ * cada endpoint antes de reducir el límite; {@code baselineWindow} es el número de
+ * muestras que abarca esa referencia.
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("200") int maxLimit,
+        @DefaultValue("2.0") double tolerance,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1000") int baselineWindow,
+        @DefaultValue("1") int retryAfterSeconds,
+        Map<String, Double> endpointShare,
+        Map<String, Double> endpointTolerance) {
+
+    public double shareFor(String endpoint) {
+        if (endpointShare == null) {
+            return 1.0;
+        }
+        return endpointShare.getOrDefault(endpoint, 1.0);
+    }
+
+    public double toleranceFor(String endpoint) {
+        if (endpointTolerance == null) {
+            return tolerance;
+        }
+        return endpointTolerance.getOrDefault(endpoint, tolerance);
+    }
+}
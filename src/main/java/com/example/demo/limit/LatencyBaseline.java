@@ -0,0 +1,63 @@
+package com.example.demo.limit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencia de referencia de un endpoint: un promedio móvil largo (de unas {@code window}
+ * muestras) frente a uno corto (de unas diez). El gradiente compara ambos, así un pico
+ * aislado no recorta el límite y la referencia sigue a los cambios lentos (p. ej. más
+ * datos) en lugar de quedar fijada en la respuesta más rápida jamás vista.
+ */
+public class LatencyBaseline {
+
+    private static final double SHORT_TERM_WEIGHT = 0.1;
+
+    private final double tolerance;
+    private final double longTermWeight;
+
+    /** Bits de un {@code double}; NaN hasta la primera muestra */
+    private final AtomicLong longTerm = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+    private final AtomicLong shortTerm = new AtomicLong(Double.doubleToRawLongBits(Double.NaN));
+
+    /**
+     * @param tolerance cuántas veces la latencia de referencia se acepta antes de reducir el límite
+     * @param window    muestras aproximadas que abarca el promedio largo
+     */
+    public LatencyBaseline(double tolerance, int window) {
+        if (tolerance < 1) {
+            throw new IllegalArgumentException("tolerance debe ser mayor o igual a 1");
+        }
+        if (window < 1) {
+            throw new IllegalArgumentException("window debe ser positivo");
+        }
+        this.tolerance = tolerance;
+        this.longTermWeight = 1.0 / window;
+    }
+
+    /**
+     * Registra la muestra y devuelve {@code tolerancia * promedio largo / promedio corto},
+     * limitado a 1.0.
+     */
+    double gradient(long latencyNanos) {
+        double sample = Math.max(1, latencyNanos);
+        double reference = update(longTerm, sample, longTermWeight);
+        double recent = update(shortTerm, sample, SHORT_TERM_WEIGHT);
+        return Math.min(1.0, tolerance * reference / recent);
+    }
+
+    public long getBaselineNanos() {
+        double reference = Double.longBitsToDouble(longTerm.get());
+        return Double.isNaN(reference) ? 0 : (long) reference;
+    }
+
+    private static double update(AtomicLong average, double sample, double weight) {
+        for (;;) {
+            long bits = average.get();
+            double current = Double.longBitsToDouble(bits);
+            double next = Double.isNaN(current) ? sample : current + (sample - current) * weight;
+            if (average.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.limit;
+
+/**
+ * Resultado de consultar el bucket de un cliente; alimenta las cabeceras {@code RateLimit-*}.
+ */
+public record RateLimitDecision(
+        boolean allowed,
+        long limit,
+        long remaining,
+        long resetSeconds,
+        long retryAfterSeconds) {
+}
@@ -0,0 +1,55 @@
+package com.example.demo.limit;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.example.demo.exception.RateLimitExceededException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Limita la tasa de peticiones por API key conocida o, si no la hay, por IP de origen.
+ * Una clave desconocida no abre un bucket nuevo: rotarla en cada petición no sirve
+ * para saltarse el límite. La IP es la de {@link HttpServletRequest#getRemoteAddr()},
+ * que detrás de un proxy ya refleja {@code X-Forwarded-For} gracias a
+ * {@code server.forward-headers-strategy}.
+ * Cada endpoint consume su costo configurado del bucket del cliente.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketStore store;
+    private final RateLimitProperties properties;
+
+    public RateLimitInterceptor(TokenBucketStore store, RateLimitProperties properties) {
+        this.store = store;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        int cost = properties.costFor(handlerMethod.getMethod().getName());
+        RateLimitDecision decision = store.tryConsume(clientKey(request), cost);
+
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(decision.resetSeconds()));
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(
+                    "Límite de peticiones excedido, intente nuevamente más tarde", decision.retryAfterSeconds());
+        }
+        return true;
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String apiKey = request.getHeader(properties.apiKeyHeader());
+        if (StringUtils.hasText(apiKey) && properties.isKnownApiKey(apiKey)) {
+            return "key:" + apiKey;
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.demo.limit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del rate limiting por cliente ({@code app.rate-limit.*}).
+ * {@code endpointCost} se indexa por el nombre del método del controlador;
+ * los endpoints sin entrada consumen un token. Solo las claves de {@code apiKeys}
+ * tienen bucket propio; cualquier otro valor de la cabecera se ignora.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100") long capacity,
+        @DefaultValue("50") double refillPerSecond,
+        @DefaultValue("X-API-Key") String apiKeyHeader,
+        Set<String> apiKeys,
+        @DefaultValue("100000") int maxClients,
+        @DefaultValue("30s") Duration sweepInterval,
+        Map<String, Integer> endpointCost) {
+
+    public int costFor(String endpoint) {
+        if (endpointCost == null) {
+            return 1;
+        }
+        return endpointCost.getOrDefault(endpoint, 1);
+    }
+
+    public boolean isKnownApiKey(String apiKey) {
+        return apiKeys != null && apiKeys.contains(apiKey);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.demo.limit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets por cliente sin bloqueos. Cada bucket es un único {@link AtomicLong}
+ * con el instante teórico en que vuelve a estar lleno (GCRA); consumir tokens es
+ * un compare-and-set, sin locks ni objetos intermedios por cliente.
+ * <p>
+ * Un bucket cuyo instante ya pasó está lleno y equivale a uno nuevo, por eso se
+ * puede descartar sin perder información: así se limpian los clientes inactivos.
+ * La limpieza recorre todos los buckets, así que corre en {@code sweepExecutor} y
+ * nunca en el hilo de la petición. Para descartar un bucket la limpieza lo marca como
+ * retirado con un CAS sobre el mismo valor que compara; si otro hilo consumió antes,
+ * el CAS falla y el bucket se queda. Una petición que ya tenía la referencia y
+ * encuentra la marca vuelve a buscar (o crear) el bucket en el mapa, así ningún
+ * consumo queda en un bucket huérfano.
+ * <p>
+ * {@code maxClients} se respeta siempre: con el mapa lleno, los clientes nuevos
+ * comparten un bucket de desborde hasta que la limpieza libere espacio. Los buckets
+ * activos nunca se descartan, así una avalancha de claves nuevas no reinicia el
+ * límite de los clientes existentes.
+ */
+public class TokenBucketStore {
+
+    /** Separación mínima entre limpiezas pedidas por tener el mapa lleno */
+    private static final long OVERFLOW_SWEEP_GAP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    /** Marca de un bucket ya quitado del mapa */
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final long capacity;
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final int maxClients;
+    private final long sweepIntervalNanos;
+    private final LongSupplier nanoClock;
+    private final Executor sweepExecutor;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicLong overflow;
+    private final AtomicLong nextSweepAt;
+    private final AtomicLong nextOverflowSweepAt = new AtomicLong(Long.MIN_VALUE);
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    public TokenBucketStore(long capacity, double refillPerSecond, int maxClients, long sweepIntervalNanos,
+            LongSupplier nanoClock, Executor sweepExecutor) {
+        if (capacity < 1 || refillPerSecond <= 0 || maxClients < 1) {
+            throw new IllegalArgumentException("capacity, refillPerSecond y maxClients deben ser positivos");
+        }
+        this.capacity = capacity;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond));
+        this.toleranceNanos = capacity * emissionIntervalNanos;
+        this.maxClients = maxClients;
+        this.sweepIntervalNanos = sweepIntervalNanos;
+        this.nanoClock = nanoClock;
+        this.sweepExecutor = sweepExecutor;
+        long now = nanoClock.getAsLong();
+        this.overflow = new AtomicLong(now);
+        this.nextSweepAt = new AtomicLong(now + sweepIntervalNanos);
+    }
+
+    /**
+     * Intenta consumir {@code cost} tokens del bucket del cliente.
+     */
+    public RateLimitDecision tryConsume(String clientKey, int cost) {
+        long now = nanoClock.getAsLong();
+        long scheduled = nextSweepAt.get();
+        if (now >= scheduled && nextSweepAt.compareAndSet(scheduled, now + sweepIntervalNanos)) {
+            requestSweep();
+        }
+
+        AtomicLong bucket = lookup(clientKey, now);
+        long increment = cost * emissionIntervalNanos;
+        for (;;) {
+            long fullAt = bucket.get();
+            if (fullAt == RETIRED) {
+                bucket = lookup(clientKey, now);
+                continue;
+            }
+            long base = Math.max(fullAt, now);
+            long debt = base + increment - now;
+            if (debt > toleranceNanos) {
+                long used = base - now;
+                return new RateLimitDecision(false, capacity, remaining(used), toSeconds(used),
+                        toSeconds(debt - toleranceNanos));
+            }
+            if (bucket.compareAndSet(fullAt, base + increment)) {
+                return new RateLimitDecision(true, capacity, remaining(debt), toSeconds(debt), 0);
+            }
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private AtomicLong lookup(String clientKey, long now) {
+        AtomicLong bucket = buckets.get(clientKey);
+        return bucket != null ? bucket : register(clientKey, now);
+    }
+
+    /**
+     * Reserva un lugar antes de insertar, así el máximo se cumple aunque haya una
+     * limpieza en curso o varios clientes nuevos a la vez.
+     */
+    private AtomicLong register(String clientKey, long now) {
+        boolean sweepRequested = false;
+        for (;;) {
+            int current = size.get();
+            if (current >= maxClients) {
+                if (sweepRequested) {
+                    return overflow;
+                }
+                long allowedAt = nextOverflowSweepAt.get();
+                if (now >= allowedAt && nextOverflowSweepAt.compareAndSet(allowedAt, now + OVERFLOW_SWEEP_GAP_NANOS)) {
+                    requestSweep();
+                }
+                sweepRequested = true;
+                continue;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+        AtomicLong created = new AtomicLong(now);
+        AtomicLong existing = buckets.putIfAbsent(clientKey, created);
+        if (existing != null) {
+            size.decrementAndGet();
+            return existing;
+        }
+        return created;
+    }
+
+    private void requestSweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sweepExecutor.execute(this::sweep);
+        } catch (RejectedExecutionException ex) {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Descarta en una sola pasada todos los buckets que ya están llenos. Solo esta
+     * limpieza quita claves, así {@code null} indica que la entrada se descartó.
+     */
+    private void sweep() {
+        try {
+            long now = nanoClock.getAsLong();
+            for (String clientKey : buckets.keySet()) {
+                if (buckets.computeIfPresent(clientKey, (key, bucket) -> retire(bucket, now) ? null : bucket) == null) {
+                    size.decrementAndGet();
+                }
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private static boolean retire(AtomicLong bucket, long now) {
+        long fullAt = bucket.get();
+        return fullAt <= now && bucket.compareAndSet(fullAt, RETIRED);
+    }
+
+    private long remaining(long usedNanos) {
+        return Math.max(0, (toleranceNanos - usedNanos) / emissionIntervalNanos);
+    }
+
+    private static long toSeconds(long nanos) {
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+}
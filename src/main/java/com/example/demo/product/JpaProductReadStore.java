@@ -0,0 +1,44 @@
+package com.example.demo.product;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.response.ProductResponse;
+
+/**
+ * Lecturas directas contra la base de datos a través de {@link ProductRepository}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.products.read-store", name = "type", havingValue = "jpa", matchIfMissing = true)
+public class JpaProductReadStore implements ProductReadStore {
+
+    private final ProductRepository repo;
+
+    public JpaProductReadStore(ProductRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ProductResponse> findById(long id) {
+        return repo.findById(id).map(ProductService::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProductResponse> findAll() {
+        return repo.findAll().stream()
+                .map(ProductService::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void add(ProductModel product) {
+        // La base de datos ya es el origen de las lecturas
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.product;
+
+import java.util.Arrays;
+
+/**
+ * Mapa {@code long -> int} de direccionamiento abierto sobre arreglos primitivos,
+ * sin boxing. Admite un único escritor a la vez; los lectores concurrentes pueden
+ * ver un valor desactualizado mientras se escribe, por eso {@link MappedProductReadStore}
+ * valida cada lectura con un {@code StampedLock}. Al crecer, la tabla nueva se llena
+ * completa antes de publicarse, así una lectura nunca mezcla arreglos de tamaños distintos.
+ * Las claves no pueden ser {@link Long#MIN_VALUE}.
+ */
+final class LongIntIndex {
+
+    static final int MISSING = -1;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+
+    private volatile Table table;
+    private int size;
+
+    LongIntIndex(int initialCapacity) {
+        table = new Table(Integer.highestOneBit(Math.max(16, initialCapacity - 1) << 1));
+    }
+
+    int get(long key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+            long candidate = current.keys[slot];
+            if (candidate == key) {
+                return current.values[slot];
+            }
+            if (candidate == EMPTY) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        Table current = table;
+        if ((size + 1) * 2 > current.keys.length) {
+            Table grown = new Table(current.keys.length * 2);
+            for (int i = 0; i < current.keys.length; i++) {
+                if (current.keys[i] != EMPTY) {
+                    grown.insert(current.keys[i], current.values[i]);
+                }
+            }
+            table = grown;
+            current = grown;
+        }
+        if (current.insert(key, value)) {
+            size++;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static final class Table {
+        private final long[] keys;
+        private final int[] values;
+
+        Table(int capacity) {
+            keys = new long[capacity];
+            values = new int[capacity];
+            Arrays.fill(keys, EMPTY);
+        }
+
+        boolean insert(long key, int value) {
+            int mask = keys.length - 1;
+            for (int slot = hash(key) & mask;; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    values[slot] = value;
+                    return false;
+                }
+                if (keys[slot] == EMPTY) {
+                    values[slot] = value;
+                    keys[slot] = key;
+                    return true;
+                }
+            }
+        }
+    }
+}
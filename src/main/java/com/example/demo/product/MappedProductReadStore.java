@@ -0,0 +1,267 @@
+package com.example.demo.product;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.StampedLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.example.demo.response.ProductResponse;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Productos guardados fuera del heap en un archivo mapeado en memoria, con un índice
+ * primitivo ID → offset. Se carga desde la base de datos al arrancar y crece con cada
+ * producto creado; las lecturas no consultan la base de datos ni Hibernate.
+ * <p>
+ * Los registros solo se agregan al final y nunca se modifican, así los lectores no
+ * necesitan bloqueo: el índice se lee de forma optimista y {@code end} publica los
+ * bytes escritos. Formato de cada registro:
+ * {@code [int longitud][long id][int escala][int n][n bytes precio][int n][n bytes nombre][int n|-1][n bytes descripción]}.
+ * El estado no se guarda porque {@link ProductResponse} no lo expone.
+ * <p>
+ * Solo es consistente con una única instancia: los productos creados por otra instancia
+ * se recuperan de la base de datos la primera vez que se piden por ID, pero
+ * {@link #findAll()} no los incluye hasta entonces (o hasta reiniciar). Si agregar un
+ * registro falla (p. ej. al superar los 2 GB), el error se registra y el producto se
+ * sigue sirviendo desde la base de datos.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.products.read-store", name = "type", havingValue = "mapped")
+public class MappedProductReadStore implements ProductReadStore {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedProductReadStore.class);
+
+    static final int LOAD_BATCH_SIZE = 1000;
+
+    private final ProductRepository repo;
+    private final Path path;
+    private final boolean temporaryFile;
+    private final FileChannel channel;
+    private final LongIntIndex index = new LongIntIndex(1024);
+    private final StampedLock indexLock = new StampedLock();
+
+    private volatile MappedByteBuffer buffer;
+    private volatile int end;
+
+    public MappedProductReadStore(ProductRepository repo,
+            @Value("${app.products.mapped-store.path:}") String path,
+            @Value("${app.products.mapped-store.initial-capacity:64MB}") DataSize initialCapacity) throws IOException {
+        this.repo = repo;
+        this.temporaryFile = !StringUtils.hasText(path);
+        this.path = temporaryFile ? Files.createTempFile("bk-products-", ".store") : Path.of(path);
+        this.channel = FileChannel.open(this.path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, initialCapacity.toBytes());
+    }
+
+    /**
+     * Copia el catálogo desde la base de datos por bloques ordenados por ID.
+     */
+    @PostConstruct
+    public void load() {
+        long lastId = 0;
+        List<ProductModel> batch;
+        do {
+            batch = repo.findByIdGreaterThanOrderByIdAsc(lastId, Limit.of(LOAD_BATCH_SIZE));
+            for (ProductModel product : batch) {
+                append(product);
+                lastId = product.getId();
+            }
+        } while (batch.size() == LOAD_BATCH_SIZE);
+        log.info("Catálogo cargado en {}: {} productos, {} bytes", path, index.size(), end);
+    }
+
+    /**
+     * Si el ID no está en el índice (creado por otra instancia o no agregado por un error)
+     * se busca en la base de datos y, si existe, se agrega al archivo.
+     */
+    @Override
+    public Optional<ProductResponse> findById(long id) {
+        int offset = offsetOf(id);
+        if (offset != LongIntIndex.MISSING) {
+            return Optional.of(read(buffer, offset));
+        }
+        return repo.findById(id).map(product -> {
+            tryAppend(product);
+            return ProductService.toResponse(product);
+        });
+    }
+
+    @Override
+    public List<ProductResponse> findAll() {
+        int limit = end;
+        MappedByteBuffer current = buffer;
+        List<ProductResponse> products = new ArrayList<>(index.size());
+        for (int offset = 0; offset < limit; offset += current.getInt(offset)) {
+            products.add(read(current, offset));
+        }
+        return products;
+    }
+
+    @Override
+    public void add(ProductModel product) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tryAppend(product);
+                }
+            });
+        } else {
+            tryAppend(product);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        channel.close();
+        if (temporaryFile) {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    private int offsetOf(long id) {
+        long stamp = indexLock.tryOptimisticRead();
+        int offset = index.get(id);
+        if (indexLock.validate(stamp)) {
+            return offset;
+        }
+        stamp = indexLock.readLock();
+        try {
+            return index.get(id);
+        } finally {
+            indexLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * El producto ya está confirmado en la base de datos: un fallo aquí no debe llegar al
+     * cliente, {@link #findById(long)} lo recupera de la base de datos.
+     */
+    private void tryAppend(ProductModel product) {
+        try {
+            append(product);
+        } catch (RuntimeException ex) {
+            log.error("No se pudo agregar el producto {} al catálogo mapeado {}; se leerá de la base de datos",
+                    product.getId(), path, ex);
+        }
+    }
+
+    private synchronized void append(ProductModel product) {
+        if (index.get(product.getId()) != LongIntIndex.MISSING) {
+            return;
+        }
+        byte[] price = product.getPrice().unscaledValue().toByteArray();
+        byte[] name = product.getName().getBytes(StandardCharsets.UTF_8);
+        byte[] description = product.getDescription() == null
+                ? null
+                : product.getDescription().getBytes(StandardCharsets.UTF_8);
+        int length = Integer.BYTES + Long.BYTES + Integer.BYTES
+                + Integer.BYTES + price.length
+                + Integer.BYTES + name.length
+                + Integer.BYTES + (description == null ? 0 : description.length);
+
+        int offset = end;
+        MappedByteBuffer target = ensureCapacity((long) offset + length);
+        int position = offset;
+        target.putInt(position, length);
+        position += Integer.BYTES;
+        target.putLong(position, product.getId());
+        position += Long.BYTES;
+        target.putInt(position, product.getPrice().scale());
+        position += Integer.BYTES;
+        position = putBytes(target, position, price);
+        position = putBytes(target, position, name);
+        putBytes(target, position, description);
+
+        end = offset + length;
+        long stamp = indexLock.writeLock();
+        try {
+            index.put(product.getId(), offset);
+        } finally {
+            indexLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Si el registro no cabe, mapea una región del doble de tamaño; los lectores que
+     * aún usan el mapeo anterior siguen viendo los mismos bytes del archivo.
+     */
+    private MappedByteBuffer ensureCapacity(long required) {
+        MappedByteBuffer current = buffer;
+        if (required <= current.capacity()) {
+            return current;
+        }
+        if (required > Integer.MAX_VALUE) {
+            throw new IllegalStateException("El catálogo mapeado supera el máximo de 2 GB");
+        }
+        long capacity = Math.min(Integer.MAX_VALUE, Math.max(required, (long) current.capacity() * 2));
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("No se pudo ampliar el catálogo mapeado " + path, ex);
+        }
+        return buffer;
+    }
+
+    private static int putBytes(MappedByteBuffer target, int position, byte[] bytes) {
+        if (bytes == null) {
+            target.putInt(position, -1);
+            return position + Integer.BYTES;
+        }
+        target.putInt(position, bytes.length);
+        target.put(position + Integer.BYTES, bytes);
+        return position + Integer.BYTES + bytes.length;
+    }
+
+    private static ProductResponse read(MappedByteBuffer source, int offset) {
+        int position = offset + Integer.BYTES;
+        long id = source.getLong(position);
+        position += Long.BYTES;
+        int scale = source.getInt(position);
+        position += Integer.BYTES;
+        byte[] price = getBytes(source, position);
+        position += Integer.BYTES + price.length;
+        byte[] name = getBytes(source, position);
+        position += Integer.BYTES + name.length;
+        byte[] description = getBytes(source, position);
+        return new ProductResponse(
+                id,
+                new String(name, StandardCharsets.UTF_8),
+                new BigDecimal(new BigInteger(price), scale),
+                description == null ? null : new String(description, StandardCharsets.UTF_8));
+    }
+
+    private static byte[] getBytes(MappedByteBuffer source, int position) {
+        int length = source.getInt(position);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        source.get(position + Integer.BYTES, bytes);
+        return bytes;
+    }
+}
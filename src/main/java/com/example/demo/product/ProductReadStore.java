@@ -0,0 +1,23 @@
+package com.example.demo.product;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.example.demo.response.ProductResponse;
+
+/**
+ * Origen de las lecturas de productos. Se elige con {@code app.products.read-store.type}:
+ * {@code jpa} (por defecto) consulta la base de datos y {@code mapped} sirve desde
+ * un archivo mapeado en memoria fuera del heap.
+ */
+public interface ProductReadStore {
+
+    Optional<ProductResponse> findById(long id);
+
+    List<ProductResponse> findAll();
+
+    /**
+     * Registra un producto recién persistido; si hay transacción, se aplica al confirmarla.
+     */
+    void add(ProductModel product);
+}
@@ -1,9 +1,38 @@
 package com.example.demo.product;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProductRepository extends JpaRepository<ProductModel, Long> {
-}
 
+    /**
+     * Recorre los productos por bloques ordenados por ID (paginación por clave)
+     */
+    List<ProductModel> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Cambia el estado de los productos indicados en un solo UPDATE
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductModel p SET p.status = :status WHERE p.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") Boolean status);
+
+    /**
+     * Cambia el estado de los productos que cumplen el filtro; los criterios nulos se ignoran
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ProductModel p SET p.status = :status "
+            + "WHERE (:namePattern IS NULL OR LOWER(p.name) LIKE :namePattern ESCAPE '!') "
+            + "AND (:currentStatus IS NULL OR p.status = :currentStatus)")
+    int updateStatusByFilter(@Param("namePattern") String namePattern,
+            @Param("currentStatus") Boolean currentStatus,
+            @Param("status") Boolean status);
+}
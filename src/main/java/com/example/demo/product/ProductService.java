@@ -1,12 +1,16 @@
 package com.example.demo.product;
 
-import java.util.stream.Collectors;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 
 import org.springframework.stereotype.Service;
 
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.request.ProductRequest;
+import com.example.demo.request.ProductStatusUpdateRequest;
 import com.example.demo.response.ProductResponse;
+import com.example.demo.response.ProductStatusUpdateResponse;
 
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
@@ -14,10 +18,15 @@ import java.util.List;
 @Service
 public class ProductService {
 
+	/** Máximo de IDs por sentencia UPDATE, para no exceder el límite de parámetros del driver */
+	static final int STATUS_UPDATE_CHUNK_SIZE = 1000;
+
 	private final ProductRepository repo;
+	private final ProductReadStore readStore;
 	
-	public ProductService(ProductRepository repo) {
+	public ProductService(ProductRepository repo, ProductReadStore readStore) {
 		this.repo = repo;
+		this.readStore = readStore;
 	}
 	
 	
@@ -33,33 +42,61 @@ public class ProductService {
         entity.setDescription(request.getDescription());
         entity.setStatus(request.getStatus());
         repo.save(entity);
+        readStore.add(entity);
 
         return toResponse(entity);
     }
     /**
      * Obtiene un producto por su ID, lanza excepción si no existe
      */
-    @Transactional(readOnly = true)
     public ProductResponse findById(Long id) {
-        ProductModel entity = repo.findById(id)
+        return readStore.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Producto no encontrado con ID: " + id));
-        return toResponse(entity);
     }
 
     /**
      * Lista todos los productos registrados
      */
-    @Transactional(readOnly = true)
     public List<ProductResponse> findAll() {
-        return repo.findAll().stream()
-                .map(this::toResponse)
-                .collect(Collectors.toList());
+        return readStore.findAll();
+    }
+
+    /**
+     * Cambia el estado de varios productos con UPDATE masivos, sin cargar las entidades.
+     * Las listas de IDs grandes se dividen en bloques dentro de la misma transacción.
+     * El estado no forma parte de {@link ProductResponse}, así que {@link ProductReadStore} no cambia.
+     */
+    @Transactional
+    public ProductStatusUpdateResponse updateStatus(ProductStatusUpdateRequest request) {
+        int updated = 0;
+        if (request.hasIds()) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            for (int from = 0; from < ids.size(); from += STATUS_UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(from + STATUS_UPDATE_CHUNK_SIZE, ids.size()));
+                updated += repo.updateStatusByIds(chunk, request.getStatus());
+            }
+        } else {
+            updated = repo.updateStatusByFilter(
+                    toLikePattern(request.getNameContains()), request.getCurrentStatus(), request.getStatus());
+        }
+        return new ProductStatusUpdateResponse(request.getStatus(), updated);
+    }
+
+    private static String toLikePattern(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return "%" + escaped + "%";
     }
 
     /**
      * Convierte el modelo en un DTO de respuesta JSON:API
      */
-    private ProductResponse toResponse(ProductModel entity) {
+    static ProductResponse toResponse(ProductModel entity) {
         return new ProductResponse(
                 entity.getId(),
                 entity.getName(),
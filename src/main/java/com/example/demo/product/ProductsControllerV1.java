@@ -4,16 +4,21 @@ import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.demo.config.SmileConfig;
 import com.example.demo.request.ProductRequest;
+import com.example.demo.request.ProductStatusUpdateRequest;
 import com.example.demo.response.ProductResponse;
+import com.example.demo.response.ProductStatusUpdateResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -55,7 +60,7 @@ public class ProductsControllerV1 {
 			content = @Content
 		)
 	})
-	@PostMapping
+	@PostMapping(produces = { MediaType.APPLICATION_JSON_VALUE, SmileConfig.APPLICATION_SMILE_VALUE })
 	public ResponseEntity<ProductResponse> createProduct(
 			@Parameter(description = "Datos del producto a crear", required = true)
 			@Valid @RequestBody ProductRequest request) {
@@ -79,7 +84,7 @@ public class ProductsControllerV1 {
 			content = @Content
 		)
 	})
-	@GetMapping("/{id}")
+	@GetMapping(value = "/{id}", produces = { MediaType.APPLICATION_JSON_VALUE, SmileConfig.APPLICATION_SMILE_VALUE })
 	public ResponseEntity<ProductResponse> getProductById(
 			@Parameter(description = "ID del producto", required = true, example = "1")
 			@PathVariable Long id) {
@@ -96,9 +101,33 @@ public class ProductsControllerV1 {
 		description = "Lista de productos obtenida exitosamente",
 		content = @Content(schema = @Schema(implementation = ProductResponse.class))
 	)
-	@GetMapping
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, SmileConfig.APPLICATION_SMILE_VALUE })
 	public ResponseEntity<List<ProductResponse>> getAllProducts() {
 		List<ProductResponse> products = productService.findAll();
 		return ResponseEntity.ok(products);
 	}
+	
+	@Operation(
+		summary = "Actualizar el estado de varios productos",
+		description = "Cambia el estado de los productos indicados por IDs o por filtro en una sola operación y devuelve la cantidad afectada"
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Estado actualizado",
+			content = @Content(schema = @Schema(implementation = ProductStatusUpdateResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Datos de entrada inválidos",
+			content = @Content
+		)
+	})
+	@PatchMapping(value = "/status", produces = { MediaType.APPLICATION_JSON_VALUE, SmileConfig.APPLICATION_SMILE_VALUE })
+	public ResponseEntity<ProductStatusUpdateResponse> updateProductStatus(
+			@Parameter(description = "Nuevo estado y productos a los que aplica", required = true)
+			@Valid @RequestBody ProductStatusUpdateRequest request) {
+		ProductStatusUpdateResponse response = productService.updateStatus(request);
+		return ResponseEntity.ok(response);
+	}
 }
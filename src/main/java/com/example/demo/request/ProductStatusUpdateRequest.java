@@ -0,0 +1,50 @@
+package com.example.demo.request;
+
+import java.util.List;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ProductStatusUpdateRequest {
+
+	/** Máximo de IDs por petición: acota la transacción a unos pocos bloques de UPDATE */
+	public static final int MAX_IDS = 10_000;
+
+	@NotNull(message = "El estado es obligatorio")
+	private Boolean status;
+
+	/** IDs de los productos a actualizar; excluyente con el filtro */
+	@Size(max = MAX_IDS, message = "No se pueden actualizar más de " + MAX_IDS + " IDs por petición")
+	private List<@NotNull(message = "Los IDs no pueden ser nulos") Long> ids;
+
+	/** Filtro: el nombre contiene este texto (sin distinguir mayúsculas) */
+	private String nameContains;
+
+	/** Filtro: estado actual de los productos */
+	private Boolean currentStatus;
+
+	public ProductStatusUpdateRequest() {}
+
+	public ProductStatusUpdateRequest(Boolean status, List<Long> ids) {
+		this.status = status;
+		this.ids = ids;
+	}
+
+	public boolean hasIds() {
+		return ids != null && !ids.isEmpty();
+	}
+
+	public boolean hasFilter() {
+		return (nameContains != null && !nameContains.isBlank()) || currentStatus != null;
+	}
+
+	@AssertTrue(message = "Debe indicar ids o un filtro (nameContains, currentStatus), pero no ambos")
+	public boolean isTargetValid() {
+		return hasIds() != hasFilter();
+	}
+}
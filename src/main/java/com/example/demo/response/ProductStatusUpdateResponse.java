@@ -0,0 +1,45 @@
+package com.example.demo.response;
+
+public class ProductStatusUpdateResponse {
+
+	private final Data data;
+
+	public ProductStatusUpdateResponse(boolean status, int updated) {
+		this.data = new Data(status, updated);
+	}
+
+	public Data getData() {
+		return data;
+	}
+
+	public static class Data {
+		private final String type = "product-status-update";
+		private final Attributes attributes;
+
+		public Data(boolean status, int updated) {
+			this.attributes = new Attributes(status, updated);
+		}
+
+		public String getType() {
+			return type;
+		}
+
+		public Attributes getAttributes() {
+			return attributes;
+		}
+	}
+
+	public static class Attributes {
+		private final boolean status;
+		private final int updated;
+
+		public Attributes(boolean status, int updated) {
+			this.status = status;
+			this.updated = updated;
+		}
+
+		public boolean getStatus() { return status; }
+		public int getUpdated() { return updated; }
+	}
+
+}
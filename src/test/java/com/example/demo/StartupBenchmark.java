@@ -0,0 +1,98 @@
+package com.example.demo;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el tiempo hasta la primera petición servida: lanza la aplicación en un proceso
+ * nuevo y consulta {@code /api/v1/products/health} hasta recibir 200. El tiempo incluye
+ * el arranque de la JVM, que es lo que paga cada instancia nueva al autoescalar.
+ * <p>
+ * Uso, tras {@code ./mvnw -Pfast-startup package -DskipTests}:
+ * <pre>
+ * java -cp target/test-classes com.example.demo.StartupBenchmark 10 java -jar target/bk-products-0.0.1-SNAPSHOT.jar
+ * java -cp target/test-classes com.example.demo.StartupBenchmark 10 java -XX:SharedArchiveFile=target/cds/application.jsa \
+ *     -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar target/cds/bk-products-0.0.1-SNAPSHOT.jar
+ * </pre>
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Uso: StartupBenchmark <ejecuciones> <comando...>");
+            System.exit(1);
+        }
+        int runs = Integer.parseInt(args[0]);
+        List<String> command = Arrays.asList(args).subList(1, args.length);
+
+        // La primera ejecución solo calienta la caché de disco del sistema operativo
+        measure(command);
+        long[] samples = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            samples[i] = measure(command);
+            System.out.printf("Ejecución %d: %d ms%n", i + 1, samples[i]);
+        }
+        Arrays.sort(samples);
+        System.out.printf("Primera petición servida (%d ejecuciones): min=%d ms p50=%d ms max=%d ms%n",
+                runs, samples[0], samples[runs / 2], samples[runs - 1]);
+    }
+
+    private static long measure(List<String> command) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> processCommand = new ArrayList<>(command);
+        processCommand.add("--server.port=" + port);
+
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/products/health"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(processCommand)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("La aplicación terminó con código " + process.exitValue());
+                }
+                try {
+                    if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException notReady) {
+                    // El servidor todavía no acepta conexiones
+                }
+                Thread.sleep(5);
+            }
+            throw new IllegalStateException("La aplicación no respondió en " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
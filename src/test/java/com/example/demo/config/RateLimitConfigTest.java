@@ -0,0 +1,30 @@
+package com.example.demo.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+@DisplayName("RateLimitConfig Tests")
+class RateLimitConfigTest {
+
+    @Test
+    @DisplayName("Debería exigir internal-proxies al confiar en los forwarded headers")
+    void shouldRequireInternalProxiesWithNativeForwardedHeaders() {
+        MockEnvironment environment = new MockEnvironment().withProperty("server.forward-headers-strategy", "native");
+
+        assertThrows(IllegalStateException.class, () -> RateLimitConfig.requireExplicitProxies(environment));
+
+        environment.setProperty("server.tomcat.remoteip.internal-proxies", "10\\.0\\.0\\.5");
+        assertDoesNotThrow(() -> RateLimitConfig.requireExplicitProxies(environment));
+    }
+
+    @Test
+    @DisplayName("Debería arrancar sin internal-proxies si no se confía en los forwarded headers")
+    void shouldNotRequireInternalProxiesByDefault() {
+        assertDoesNotThrow(() -> RateLimitConfig.requireExplicitProxies(new MockEnvironment()));
+        assertDoesNotThrow(() -> RateLimitConfig.requireExplicitProxies(
+                new MockEnvironment().withProperty("server.forward-headers-strategy", "none")));
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.demo.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2Pool("routing_primary");
+        replica = h2Pool("routing_replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("Debería enviar las transacciones readOnly a la réplica")
+    void shouldRouteReadOnlyTransactionsToReplica() {
+        DataSource routing = routing(probedPolicy(null));
+
+        assertEquals("ROUTING_REPLICA", currentDatabase(routing, true));
+        assertEquals("ROUTING_PRIMARY", currentDatabase(routing, false));
+    }
+
+    @Test
+    @DisplayName("Debería usar el primario fuera de una transacción")
+    void shouldUsePrimaryWithoutTransaction() {
+        String database = new JdbcTemplate(routing(probedPolicy(null))).queryForObject("SELECT DATABASE()", String.class);
+
+        assertEquals("ROUTING_PRIMARY", database);
+    }
+
+    @Test
+    @DisplayName("Debería volver al primario cuando la réplica supera el retraso máximo")
+    void shouldFallBackToPrimaryWhenReplicaLags() {
+        ReplicaLagPolicy policy = probedPolicy("SELECT 30");
+
+        assertFalse(policy.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", currentDatabase(routing(policy), true));
+    }
+
+    @Test
+    @DisplayName("Debería considerar la réplica no usable si el retraso es NULL o no hay filas")
+    void shouldNotUseReplicaWhenLagIsUnknown() {
+        ReplicaLagPolicy nullLag = probedPolicy("SELECT CAST(NULL AS DOUBLE)");
+        ReplicaLagPolicy noRows = probedPolicy("SELECT 0 FROM DUAL WHERE 1 = 0");
+
+        assertFalse(nullLag.isReplicaUsable());
+        assertFalse(noRows.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", currentDatabase(routing(nullLag), true));
+    }
+
+    @Test
+    @DisplayName("Debería reintentar en el primario cuando la réplica no entrega conexiones")
+    void shouldRetryOnPrimaryWhenReplicaConnectionFails() {
+        ReplicaLagPolicy policy = probedPolicy("SELECT 0");
+        DataSource routing = routing(policy);
+        replica.close();
+
+        assertEquals("ROUTING_PRIMARY", currentDatabase(routing, true));
+        assertFalse(policy.isReplicaUsable());
+    }
+
+    @Test
+    @DisplayName("Debería considerar la réplica no usable antes del primer chequeo")
+    void shouldNotUseReplicaBeforeFirstProbe() {
+        ReplicaLagPolicy policy = new ReplicaLagPolicy(replica, null, Duration.ofSeconds(5), Duration.ofHours(1));
+
+        assertFalse(policy.isReplicaUsable());
+        assertEquals("ROUTING_PRIMARY", currentDatabase(routing(policy), true));
+    }
+
+    @Test
+    @DisplayName("Debería volver a comprobar la réplica en segundo plano")
+    void shouldProbeInBackground() throws InterruptedException {
+        try (ReplicaLagPolicy policy = new ReplicaLagPolicy(replica, "SELECT 0", Duration.ofSeconds(5), Duration.ofMillis(20))) {
+            policy.start();
+            assertTrue(policy.isReplicaUsable());
+
+            replica.close();
+
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (policy.isReplicaUsable() && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertFalse(policy.isReplicaUsable());
+        }
+    }
+
+    private ReplicaLagPolicy probedPolicy(String lagQuery) {
+        ReplicaLagPolicy policy = new ReplicaLagPolicy(replica, lagQuery, Duration.ofSeconds(5), Duration.ofHours(1));
+        policy.refresh();
+        return policy;
+    }
+
+    private DataSource routing(ReplicaLagPolicy policy) {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, policy));
+    }
+
+    private String currentDatabase(DataSource dataSource, boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT DATABASE()", String.class));
+    }
+
+    private static HikariDataSource h2Pool(String name) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        ds.setUsername("sa");
+        ds.setMaximumPoolSize(2);
+        return ds;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.example.demo.product.ProductService;
+import com.example.demo.request.ProductRequest;
+import com.example.demo.response.ProductResponse;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Recorre el enrutamiento a través de {@code JpaTransactionManager} y {@link ProductService}.
+ * Primario y réplica son dos bases H2 distintas: Hibernate crea el esquema solo en el primario
+ * y la réplica recibe una fila propia, así se distingue de dónde sale cada lectura.
+ */
+@SpringBootTest(properties = {
+        "app.datasource.routing.enabled=true",
+        "app.datasource.routing.check-interval=1h",
+        "app.datasource.primary.jdbc-url=jdbc:h2:mem:jpa_routing_primary;DB_CLOSE_DELAY=-1",
+        "app.datasource.primary.username=sa",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:jpa_routing_replica;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.connection-timeout=250"
+})
+@DisplayName("ReadWriteRoutingDataSource JPA Tests")
+class ReadWriteRoutingJpaTest {
+
+    private static final long REPLICA_ONLY_ID = 1000L;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReplicaLagPolicy replicaLagPolicy;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbc = new JdbcTemplate(replica);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS products (id BIGINT PRIMARY KEY, name VARCHAR(255) NOT NULL, "
+                + "price NUMERIC(38, 2) NOT NULL, description VARCHAR(1000), status BOOLEAN NOT NULL)");
+        jdbc.update("MERGE INTO products KEY (id) VALUES (?, 'Solo en réplica', 1.00, NULL, TRUE)", REPLICA_ONLY_ID);
+    }
+
+    @Test
+    @DisplayName("Debería leer de la réplica en las consultas readOnly del servicio")
+    void shouldReadFromReplicaThroughService() {
+        List<ProductResponse> products = productService.findAll();
+
+        assertTrue(replicaLagPolicy.isReplicaUsable());
+        assertEquals(List.of("Solo en réplica"), names(products));
+        assertEquals("Solo en réplica", productService.findById(REPLICA_ONLY_ID).getData().getAttributes().getName());
+    }
+
+    @Test
+    @DisplayName("Debería escribir en el primario al crear productos")
+    void shouldWriteToPrimaryThroughService() {
+        Long id = productService.create(new ProductRequest("Nuevo", new BigDecimal("5.00"), null))
+                .getData().getAttributes().getId();
+
+        Integer inPrimary = new JdbcTemplate(primary)
+                .queryForObject("SELECT COUNT(*) FROM products WHERE id = ?", Integer.class, id);
+        Integer inReplica = new JdbcTemplate(replica)
+                .queryForObject("SELECT COUNT(*) FROM products WHERE name = 'Nuevo'", Integer.class);
+        assertEquals(1, inPrimary);
+        assertEquals(0, inReplica);
+    }
+
+    @Test
+    @DirtiesContext
+    @DisplayName("Debería reintentar en el primario cuando la réplica no entrega conexiones")
+    void shouldFallBackToPrimaryWhenReplicaPoolFails() {
+        productService.create(new ProductRequest("En primario", new BigDecimal("2.00"), null));
+        replica.close();
+
+        List<ProductResponse> products = productService.findAll();
+
+        assertFalse(replicaLagPolicy.isReplicaUsable());
+        assertTrue(names(products).contains("En primario"));
+        assertFalse(names(products).contains("Solo en réplica"));
+    }
+
+    private static List<String> names(List<ProductResponse> products) {
+        return products.stream().map(p -> p.getData().getAttributes().getName()).toList();
+    }
+}
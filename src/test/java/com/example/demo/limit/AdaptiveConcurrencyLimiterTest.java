@@ -0,0 +1,156 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("AdaptiveConcurrencyLimiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Debería rechazar cuando se alcanza el límite")
+    void shouldRejectWhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+
+        assertTrue(limiter.tryAcquire(1.0));
+        assertTrue(limiter.tryAcquire(1.0));
+        assertFalse(limiter.tryAcquire(1.0));
+        assertEquals(2, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Debería reservar capacidad para endpoints con mayor fracción")
+    void shouldReserveCapacityForHigherShare() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 10, 0.5);
+
+        for (int i = 0; i < 6; i++) {
+            assertTrue(limiter.tryAcquire(0.6));
+        }
+        assertFalse(limiter.tryAcquire(0.6));
+        assertTrue(limiter.tryAcquire(1.0));
+    }
+
+    @Test
+    @DisplayName("Debería aumentar el límite con latencias dentro de la tolerancia bajo carga")
+    void shouldIncreaseLimitWhenFastAndSaturated() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 0.5);
+        limiter.tryAcquire(1.0);
+        limiter.tryAcquire(1.0);
+
+        limiter.release(new LatencyBaseline(2.0, 100), FAST);
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Debería reducir el límite cuando la latencia reciente supera la referencia")
+    void shouldDecreaseLimitWhenSlowerThanBaseline() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 0.5, clock::get);
+        LatencyBaseline baseline = new LatencyBaseline(2.0, 100);
+        limiter.tryAcquire(1.0);
+        release(limiter, baseline, FAST);
+        assertEquals(8, limiter.getLimit());
+
+        limiter.tryAcquire(1.0);
+        release(limiter, baseline, 100 * FAST);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.tryAcquire(1.0);
+        release(limiter, baseline, 100 * FAST);
+        assertEquals(2, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Debería recortar una sola vez cuando muchas peticiones lentas terminan juntas")
+    void shouldDecreaseOncePerRoundTripWhenManyReleaseSlowly() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(200, 4, 200, 0.9, clock::get);
+        LatencyBaseline baseline = new LatencyBaseline(2.0, 100);
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire(1.0);
+            release(limiter, baseline, FAST);
+        }
+
+        for (int i = 0; i < 40; i++) {
+            assertTrue(limiter.tryAcquire(1.0));
+        }
+        clock.addAndGet(100 * FAST);
+        for (int i = 0; i < 40; i++) {
+            limiter.release(baseline, 100 * FAST);
+        }
+        assertEquals(180, limiter.getLimit());
+
+        limiter.tryAcquire(1.0);
+        release(limiter, baseline, 100 * FAST);
+        assertEquals(162, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Debería tolerar picos aislados de latencia")
+    void shouldIgnoreIsolatedSpikes() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 2, 10, 0.5);
+        LatencyBaseline baseline = new LatencyBaseline(2.0, 100);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire(1.0);
+            limiter.release(baseline, FAST);
+        }
+
+        limiter.tryAcquire(1.0);
+        limiter.release(baseline, 5 * FAST);
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Debería comparar cada endpoint con su propia latencia base")
+    void shouldUseBaselinePerEndpoint() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, 0.5);
+        LatencyBaseline fastEndpoint = new LatencyBaseline(2.0, 100);
+        LatencyBaseline slowEndpoint = new LatencyBaseline(2.0, 100);
+
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire(1.0);
+            limiter.tryAcquire(1.0);
+            limiter.release(fastEndpoint, FAST);
+            limiter.release(slowEndpoint, 50 * FAST);
+        }
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), slowEndpoint.getBaselineNanos());
+        assertTrue(limiter.getLimit() > 4);
+    }
+
+    @Test
+    @DisplayName("Debería seguir la latencia promedio como referencia")
+    void shouldTrackAverageLatencyAsBaseline() {
+        LatencyBaseline baseline = new LatencyBaseline(2.0, 2);
+
+        baseline.gradient(FAST);
+        assertEquals(FAST, baseline.getBaselineNanos());
+
+        baseline.gradient(3 * FAST);
+        assertEquals(2 * FAST, baseline.getBaselineNanos());
+    }
+
+    @Test
+    @DisplayName("Debería validar los parámetros de configuración")
+    void shouldValidateConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(1, 2, 10, 0.5));
+        assertThrows(IllegalArgumentException.class, () -> new AdaptiveConcurrencyLimiter(5, 1, 10, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyBaseline(0.5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyBaseline(2.0, 0));
+    }
+
+    /** Avanza el reloj lo que tardó la petición, como si se hubiera admitido tras la anterior */
+    private void release(AdaptiveConcurrencyLimiter limiter, LatencyBaseline baseline, long latencyNanos) {
+        clock.addAndGet(latencyNanos);
+        limiter.release(baseline, latencyNanos);
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.product.ProductService;
+import com.example.demo.product.ProductsControllerV1;
+import com.example.demo.response.ProductResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdmissionControlInterceptor Tests")
+class AdmissionControlInterceptorTest {
+
+    @Mock
+    private ProductService productService;
+
+    @InjectMocks
+    private ProductsControllerV1 productsController;
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private SimpleMeterRegistry meterRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(4, 1, 4, 0.9);
+        meterRegistry = new SimpleMeterRegistry();
+        AdmissionControlProperties properties = new AdmissionControlProperties(
+                true, 4, 1, 4, 2.0, 0.9, 100, 2, Map.of("getAllProducts", 0.5), null);
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(productsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new AdmissionControlInterceptor(limiter, properties, meterRegistry))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería liberar el permiso al terminar la petición")
+    void shouldReleasePermitAfterRequest() throws Exception {
+        when(productService.findById(1L)).thenReturn(new ProductResponse(1L, "Producto", BigDecimal.ONE, null));
+
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk());
+
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(meterRegistry.get("admission.baseline").tag("endpoint", "getProductById").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("Debería retornar 503 cuando findAll agota su fracción del límite")
+    void shouldReturnServiceUnavailableWhenShareExhausted() throws Exception {
+        limiter.tryAcquire(1.0);
+        limiter.tryAcquire(1.0);
+
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.error").value("Service Unavailable"))
+                .andExpect(jsonPath("$.path").value("/api/v1/products"));
+
+        verify(productService, never()).findAll();
+        assertEquals(1.0, meterRegistry.get("admission.rejected").tag("endpoint", "getAllProducts").counter().count());
+    }
+
+    @Test
+    @DisplayName("Debería seguir admitiendo findById con la capacidad reservada")
+    void shouldAdmitFindByIdWithReservedCapacity() throws Exception {
+        limiter.tryAcquire(1.0);
+        limiter.tryAcquire(1.0);
+        when(productService.findById(1L)).thenReturn(new ProductResponse(1L, "Producto", BigDecimal.ONE, null));
+
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(status().isServiceUnavailable());
+        mockMvc.perform(get("/api/v1/products/1"))
+                .andExpect(status().isOk());
+
+        verify(productService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Debería usar el límite completo y la tolerancia general para endpoints sin configuración")
+    void shouldDefaultShareAndToleranceForUnconfiguredEndpoints() {
+        AdmissionControlProperties withoutEntries = new AdmissionControlProperties(
+                true, 4, 1, 4, 2.0, 0.9, 100, 1, null, null);
+        AdmissionControlProperties withEntries = new AdmissionControlProperties(
+                true, 4, 1, 4, 2.0, 0.9, 100, 1, Map.of("getAllProducts", 0.5), Map.of("getAllProducts", 3.0));
+
+        assertEquals(1.0, withoutEntries.shareFor("getAllProducts"));
+        assertEquals(1.0, withEntries.shareFor("getProductById"));
+        assertEquals(0.5, withEntries.shareFor("getAllProducts"));
+        assertEquals(2.0, withoutEntries.toleranceFor("getAllProducts"));
+        assertEquals(2.0, withEntries.toleranceFor("getProductById"));
+        assertEquals(3.0, withEntries.toleranceFor("getAllProducts"));
+    }
+}
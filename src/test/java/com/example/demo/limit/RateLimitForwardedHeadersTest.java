@@ -0,0 +1,47 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Comprueba con Tomcat real que, detrás de un proxy de confianza (loopback en la prueba),
+ * cada IP de {@code X-Forwarded-For} tiene su propio bucket.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "server.tomcat.remoteip.internal-proxies=127[.]0[.]0[.]1|0:0:0:0:0:0:0:1",
+        "app.rate-limit.capacity=1",
+        "app.rate-limit.refill-per-second=0.01",
+        "app.rate-limit.endpoint-cost.getAllProducts=1"
+})
+@DisplayName("RateLimit Forwarded Headers Tests")
+class RateLimitForwardedHeadersTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Debería limitar por la IP de X-Forwarded-For")
+    void shouldLimitByForwardedClientAddress() {
+        assertEquals(HttpStatus.OK, listProductsFrom("203.0.113.10"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, listProductsFrom("203.0.113.10"));
+        assertEquals(HttpStatus.OK, listProductsFrom("203.0.113.11"));
+    }
+
+    private HttpStatusCode listProductsFrom(String clientAddress) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.exchange("/api/v1/products", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.demo.exception.GlobalExceptionHandler;
+import com.example.demo.product.ProductService;
+import com.example.demo.product.ProductsControllerV1;
+import com.example.demo.response.ProductResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RateLimitInterceptor Tests")
+class RateLimitInterceptorTest {
+
+    @Mock
+    private ProductService productService;
+
+    @InjectMocks
+    private ProductsControllerV1 productsController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(
+                true, 10, 1, "X-API-Key", Set.of("integrador"), 100, Duration.ofMinutes(1), Map.of("getAllProducts", 6));
+        TokenBucketStore store = new TokenBucketStore(
+                10, 1, 100, TimeUnit.MINUTES.toNanos(1), System::nanoTime, Runnable::run);
+
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(productsController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .addInterceptors(new RateLimitInterceptor(store, properties))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Debería informar las cabeceras RateLimit-*")
+    void shouldExposeRateLimitHeaders() throws Exception {
+        when(productService.findById(1L)).thenReturn(new ProductResponse(1L, "Producto", BigDecimal.ONE, null));
+
+        mockMvc.perform(get("/api/v1/products/1").header("X-API-Key", "integrador"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "10"))
+                .andExpect(header().string("RateLimit-Remaining", "9"))
+                .andExpect(header().string("RateLimit-Reset", "1"));
+    }
+
+    @Test
+    @DisplayName("Debería retornar 429 cuando el cliente agota sus tokens")
+    void shouldReturnTooManyRequestsWhenBucketEmpty() throws Exception {
+        when(productService.findAll()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", "integrador"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "4"));
+
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", "integrador"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("RateLimit-Remaining", "4"))
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.error").value("Too Many Requests"))
+                .andExpect(jsonPath("$.path").value("/api/v1/products"));
+
+        verify(productService, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Debería limitar por IP cuando no se envía API key")
+    void shouldLimitByRemoteAddressWithoutApiKey() throws Exception {
+        when(productService.findAll()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/products").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/products").with(request -> {
+                    request.setRemoteAddr("10.0.0.1");
+                    return request;
+                }))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/v1/products").with(request -> {
+                    request.setRemoteAddr("10.0.0.2");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Debería limitar por IP las API keys desconocidas")
+    void shouldIgnoreUnknownApiKeys() throws Exception {
+        when(productService.findAll()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", "inventada-1").with(request -> {
+                    request.setRemoteAddr("10.0.0.3");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", "inventada-2").with(request -> {
+                    request.setRemoteAddr("10.0.0.3");
+                    return request;
+                }))
+                .andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/v1/products").header("X-API-Key", "integrador").with(request -> {
+                    request.setRemoteAddr("10.0.0.3");
+                    return request;
+                }))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Debería cobrar un token a endpoints sin costo configurado")
+    void shouldDefaultCostToOneToken() {
+        RateLimitProperties withoutCosts = new RateLimitProperties(
+                true, 10, 1, "X-API-Key", null, 100, Duration.ofMinutes(1), null);
+
+        assertEquals(1, withoutCosts.costFor("getAllProducts"));
+        assertFalse(withoutCosts.isKnownApiKey("integrador"));
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+/**
+ * Comprueba con Tomcat real que un cliente que no es el balanceador configurado
+ * (loopback en la prueba) no puede elegir su bucket con {@code X-Forwarded-For}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "server.tomcat.remoteip.internal-proxies=10[.]0[.]0[.]5",
+        "app.rate-limit.capacity=1",
+        "app.rate-limit.refill-per-second=0.01",
+        "app.rate-limit.endpoint-cost.getAllProducts=1"
+})
+@DisplayName("RateLimit Untrusted Proxy Tests")
+class RateLimitUntrustedProxyTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    @DisplayName("Debería ignorar X-Forwarded-For de un cliente que no es proxy de confianza")
+    void shouldIgnoreSpoofedForwardedForFromUntrustedPeer() {
+        assertEquals(HttpStatus.OK, listProductsFrom("203.0.113.20"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, listProductsFrom("203.0.113.21"));
+    }
+
+    private HttpStatusCode listProductsFrom(String clientAddress) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Forwarded-For", clientAddress);
+        return restTemplate.exchange("/api/v1/products", HttpMethod.GET, new HttpEntity<>(headers), String.class)
+                .getStatusCode();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.demo.limit;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Costo de {@link TokenBucketStore#tryConsume} bajo contención.
+ * La recarga es de un token por nanosegundo para que las peticiones se admitan y
+ * cada operación pase por el compare-and-set en lugar de rechazarse sin escribir.
+ * <ul>
+ * <li>{@code hotKey}: un solo cliente, todos los hilos compiten por el mismo bucket.</li>
+ * <li>{@code spread} y {@code large}: 1.000 y 100.000 clientes dentro de {@code maxClients}.</li>
+ * <li>{@code overflow}: 100.000 claves con {@code maxClients} de 10.000; la mayoría usa el
+ * bucket de desborde y la limpieza corre en segundo plano.</li>
+ * </ul>
+ * Ejecutar con {@code ./mvnw -Pbenchmark test -DskipTests -Djmh.include=TokenBucketStoreBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class TokenBucketStoreBenchmark {
+
+    @Param({ "hotKey", "spread", "large", "overflow" })
+    private String scenario;
+
+    private TokenBucketStore store;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        int clients;
+        int maxClients;
+        switch (scenario) {
+            case "hotKey" -> { clients = 1; maxClients = 200_000; }
+            case "spread" -> { clients = 1_000; maxClients = 200_000; }
+            case "large" -> { clients = 100_000; maxClients = 200_000; }
+            case "overflow" -> { clients = 100_000; maxClients = 10_000; }
+            default -> throw new IllegalArgumentException("Escenario desconocido: " + scenario);
+        }
+        store = new TokenBucketStore(1_000_000, 1_000_000_000, maxClients, TimeUnit.SECONDS.toNanos(30),
+                System::nanoTime, task -> Thread.ofVirtual().name("rate-limit-sweeper").start(task));
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "key:cliente-" + i;
+            store.tryConsume(keys[i], 1);
+        }
+    }
+
+    @Benchmark
+    public RateLimitDecision tryConsume() {
+        return store.tryConsume(keys[ThreadLocalRandom.current().nextInt(keys.length)], 1);
+    }
+}
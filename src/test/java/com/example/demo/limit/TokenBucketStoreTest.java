@@ -0,0 +1,127 @@
+package com.example.demo.limit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("TokenBucketStore Tests")
+class TokenBucketStoreTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private TokenBucketStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new TokenBucketStore(10, 5, 3, TimeUnit.MINUTES.toNanos(1), clock::get, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Debería permitir consumir hasta la capacidad del bucket")
+    void shouldAllowUpToCapacity() {
+        for (int i = 0; i < 10; i++) {
+            RateLimitDecision decision = store.tryConsume("cliente", 1);
+            assertTrue(decision.allowed());
+            assertEquals(9 - i, decision.remaining());
+        }
+
+        RateLimitDecision rejected = store.tryConsume("cliente", 1);
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(1, rejected.retryAfterSeconds());
+        assertEquals(2, rejected.resetSeconds());
+    }
+
+    @Test
+    @DisplayName("Debería descontar el costo del endpoint")
+    void shouldChargeEndpointCost() {
+        assertEquals(5, store.tryConsume("cliente", 5).remaining());
+        assertEquals(0, store.tryConsume("cliente", 5).remaining());
+        assertFalse(store.tryConsume("cliente", 5).allowed());
+        assertTrue(store.tryConsume("otro", 5).allowed());
+    }
+
+    @Test
+    @DisplayName("Debería recargar tokens con el tiempo")
+    void shouldRefillOverTime() {
+        store.tryConsume("cliente", 10);
+        assertFalse(store.tryConsume("cliente", 1).allowed());
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(400));
+
+        assertTrue(store.tryConsume("cliente", 2).allowed());
+        assertFalse(store.tryConsume("cliente", 1).allowed());
+    }
+
+    @Test
+    @DisplayName("Debería descartar buckets inactivos al superar el máximo de clientes")
+    void shouldEvictIdleBucketsWhenFull() {
+        store.tryConsume("a", 10);
+        store.tryConsume("b", 1);
+        store.tryConsume("c", 1);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        store.tryConsume("d", 1);
+
+        assertEquals(2, store.size());
+        assertFalse(store.tryConsume("a", 10).allowed());
+    }
+
+    @Test
+    @DisplayName("Debería mantener el máximo de clientes sin descartar buckets activos")
+    void shouldStayBoundedWhenNoBucketIsIdle() {
+        for (int i = 0; i < 10; i++) {
+            store.tryConsume("cliente-" + i, 1);
+        }
+
+        assertEquals(3, store.size());
+        assertEquals(8, store.tryConsume("cliente-0", 1).remaining());
+        assertEquals(2, store.tryConsume("nuevo", 1).remaining());
+    }
+
+    @Test
+    @DisplayName("Debería respetar el máximo mientras la limpieza está pendiente")
+    void shouldStayBoundedWhileSweepIsPending() {
+        List<Runnable> pending = new ArrayList<>();
+        TokenBucketStore deferred = new TokenBucketStore(10, 5, 3, TimeUnit.MINUTES.toNanos(1), clock::get, pending::add);
+        deferred.tryConsume("a", 1);
+        deferred.tryConsume("b", 1);
+        deferred.tryConsume("c", 1);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        deferred.tryConsume("d", 1);
+        deferred.tryConsume("e", 1);
+
+        assertEquals(3, deferred.size());
+        assertEquals(1, pending.size());
+
+        pending.remove(0).run();
+        deferred.tryConsume("f", 1);
+
+        assertEquals(1, deferred.size());
+    }
+
+    @Test
+    @DisplayName("Debería limpiar periódicamente los buckets llenos")
+    void shouldSweepIdleBucketsPeriodically() {
+        store.tryConsume("a", 1);
+        store.tryConsume("b", 1);
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        store.tryConsume("c", 1);
+
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Debería validar los parámetros de configuración")
+    void shouldValidateConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenBucketStore(0, 1, 1, 1, clock::get, Runnable::run));
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.demo.load;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+/**
+ * Generador de carga de modelo abierto: las peticiones salen a tasa constante según un
+ * calendario fijo, sin esperar a que terminen las anteriores (cada una en su hilo virtual).
+ * La latencia se mide desde el instante programado y no desde el envío real, así un
+ * servidor lento no reduce la carga ni oculta su propia espera (omisión coordinada).
+ * <p>
+ * Cada petición se arma en el hilo que despacha con el mismo generador con semilla que
+ * elige la operación, así la secuencia completa (operaciones e IDs) es reproducible.
+ */
+public class ConstantRateLoadGenerator {
+
+    public record Operation(String name, int weight, Function<SplittableRandom, HttpRequest> request) {
+    }
+
+    private final HttpClient client;
+    private final List<Operation> operations;
+    private final int totalWeight;
+    private final long seed;
+
+    public ConstantRateLoadGenerator(HttpClient client, List<Operation> operations, long seed) {
+        this.client = client;
+        this.operations = operations;
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        this.seed = seed;
+    }
+
+    /**
+     * Ejecuta la carga; lo enviado durante {@code warmup} no se registra en el reporte.
+     */
+    public LoadReport run(double ratePerSecond, Duration warmup, Duration duration) {
+        Map<String, LoadReport.OperationStats> stats = new LinkedHashMap<>();
+        operations.forEach(operation -> stats.put(operation.name(), new LoadReport.OperationStats()));
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0;; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait;
+                while ((wait = intended - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = pick(random);
+                HttpRequest request = operation.request().apply(random);
+                LoadReport.OperationStats target = intended >= measureFrom ? stats.get(operation.name()) : null;
+                executor.execute(() -> execute(request, intended, target));
+            }
+        }
+        return new LoadReport(ratePerSecond, warmup, duration, weights(), stats);
+    }
+
+    private void execute(HttpRequest request, long intendedStart, LoadReport.OperationStats stats) {
+        int status;
+        try {
+            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException ex) {
+            status = LoadReport.OperationStats.TRANSPORT_ERROR;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (stats != null) {
+            stats.record(System.nanoTime() - intendedStart, status);
+        }
+    }
+
+    private Operation pick(SplittableRandom random) {
+        int roll = random.nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        throw new IllegalStateException("Mezcla de operaciones vacía");
+    }
+
+    private Map<String, Integer> weights() {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        operations.forEach(operation -> weights.put(operation.name(), operation.weight()));
+        return weights;
+    }
+}
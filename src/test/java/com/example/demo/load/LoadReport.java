@@ -0,0 +1,160 @@
+package com.example.demo.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Resultado de una ejecución de {@link ConstantRateLoadGenerator}. Se escribe como
+ * {@code report.json} (comparable entre ejecuciones) y un {@code .hgrm} por operación
+ * con la distribución completa de HdrHistogram, en milisegundos.
+ */
+public class LoadReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final double ratePerSecond;
+    private final Duration warmup;
+    private final Duration duration;
+    private final Map<String, Integer> mix;
+    private final Map<String, OperationStats> operations;
+
+    public LoadReport(double ratePerSecond, Duration warmup, Duration duration, Map<String, Integer> mix,
+            Map<String, OperationStats> operations) {
+        this.ratePerSecond = ratePerSecond;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.mix = mix;
+        this.operations = operations;
+    }
+
+    public Map<String, OperationStats> getOperations() {
+        return operations;
+    }
+
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(directory.resolve("report.json").toFile(), toMap());
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            try (PrintStream out = new PrintStream(directory.resolve(entry.getKey() + ".hgrm").toFile())) {
+                entry.getValue().histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    /**
+     * Compara el p99 de cada operación con un reporte anterior y devuelve las que
+     * empeoraron más de {@code maxRegression} (0.2 = 20 %).
+     */
+    public List<String> regressionsAgainst(Path baselineReport, double maxRegression) throws IOException {
+        JsonNode baseline = new ObjectMapper().readTree(baselineReport.toFile()).path("operations");
+        List<String> regressions = new ArrayList<>();
+        for (Map.Entry<String, OperationStats> entry : operations.entrySet()) {
+            JsonNode previous = baseline.path(entry.getKey()).path("p99Ms");
+            if (previous.isMissingNode()) {
+                continue;
+            }
+            double current = entry.getValue().percentileMs(99.0);
+            if (current > previous.asDouble() * (1 + maxRegression)) {
+                regressions.add(String.format("%s: p99 %.2f ms (antes %.2f ms)", entry.getKey(), current,
+                        previous.asDouble()));
+            }
+        }
+        return regressions;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder(String.format("%n%-15s %8s %7s %9s %9s %9s %9s%n",
+                "operación", "total", "errores", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        operations.forEach((name, stats) -> summary.append(String.format("%-15s %8d %7d %9.2f %9.2f %9.2f %9.2f%n",
+                name, stats.getCount(), stats.getErrors(), stats.percentileMs(50.0), stats.percentileMs(99.0),
+                stats.percentileMs(99.9), stats.histogram.getMaxValue() / MICROS_PER_MILLI)));
+        return summary.toString();
+    }
+
+    private Map<String, Object> toMap() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("ratePerSecond", ratePerSecond);
+        config.put("warmupSeconds", warmup.toSeconds());
+        config.put("durationSeconds", duration.toSeconds());
+        config.put("mix", mix);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        operations.forEach((name, stats) -> results.put(name, stats.toMap()));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("operations", results);
+        return report;
+    }
+
+    /**
+     * Latencias (en microsegundos) y códigos de estado de una operación.
+     */
+    public static final class OperationStats {
+
+        static final int TRANSPORT_ERROR = -1;
+
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+        void record(long latencyNanos, int status) {
+            histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+            statusCodes.computeIfAbsent(status, code -> new LongAdder()).increment();
+            if (status == TRANSPORT_ERROR || status >= 400) {
+                errors.increment();
+            }
+        }
+
+        public long getCount() {
+            return histogram.getTotalCount();
+        }
+
+        public long getErrors() {
+            return errors.sum();
+        }
+
+        public double errorRate() {
+            long count = getCount();
+            return count == 0 ? 0 : (double) getErrors() / count;
+        }
+
+        public double percentileMs(double percentile) {
+            return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+        }
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", getCount());
+            map.put("errors", getErrors());
+            map.put("p50Ms", percentileMs(50.0));
+            map.put("p90Ms", percentileMs(90.0));
+            map.put("p99Ms", percentileMs(99.0));
+            map.put("p999Ms", percentileMs(99.9));
+            map.put("maxMs", histogram.getMaxValue() / MICROS_PER_MILLI);
+            Map<String, Long> codes = new TreeMap<>();
+            statusCodes.forEach((code, count) -> codes.put(String.valueOf(code), count.sum()));
+            map.put("statusCodes", codes);
+            return map;
+        }
+    }
+}
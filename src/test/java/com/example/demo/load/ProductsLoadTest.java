@@ -0,0 +1,116 @@
+package com.example.demo.load;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.example.demo.product.ProductService;
+import com.example.demo.request.ProductRequest;
+
+/**
+ * Prueba de carga de {@code ProductsControllerV1} con una mezcla de create/findById/findAll
+ * a tasa constante. Se configura con propiedades del sistema ({@code load.*}) y falla si la
+ * tasa de errores, el p99 o la regresión frente a un reporte base superan los umbrales.
+ * El rate limiting por cliente se desactiva porque toda la carga sale de un único cliente.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.rate-limit.enabled=false")
+@DisplayName("Products API Load Test")
+class ProductsLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductsLoadTest.class);
+
+    private static final String CREATE_BODY =
+            "{\"name\":\"Producto carga\",\"price\":19.99,\"description\":\"Creado por la prueba de carga\",\"status\":true}";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("Debería cumplir los umbrales de latencia y errores a tasa constante")
+    void shouldMeetLatencyTargetsUnderConstantLoad() throws Exception {
+        List<Long> ids = seedProducts(Integer.getInteger("load.seedProducts", 1000));
+        URI products = URI.create("http://localhost:" + port + "/api/v1/products");
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        Duration timeout = Duration.ofSeconds(30);
+
+        List<ConstantRateLoadGenerator.Operation> mix = List.of(
+                new ConstantRateLoadGenerator.Operation("createProduct", Integer.getInteger("load.mix.create", 10),
+                        random -> HttpRequest.newBuilder(products)
+                                .timeout(timeout)
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString(CREATE_BODY))
+                                .build()),
+                new ConstantRateLoadGenerator.Operation("getProductById", Integer.getInteger("load.mix.findById", 70),
+                        random -> HttpRequest.newBuilder(products.resolve("products/"
+                                        + ids.get(random.nextInt(ids.size()))))
+                                .timeout(timeout)
+                                .build()),
+                new ConstantRateLoadGenerator.Operation("getAllProducts", Integer.getInteger("load.mix.findAll", 20),
+                        random -> HttpRequest.newBuilder(products)
+                                .timeout(timeout)
+                                .build()));
+
+        LoadReport report = new ConstantRateLoadGenerator(client, mix, Long.getLong("load.seed", 42L)).run(
+                Double.parseDouble(System.getProperty("load.rate", "100")),
+                Duration.ofSeconds(Long.getLong("load.warmupSeconds", 5)),
+                Duration.ofSeconds(Long.getLong("load.durationSeconds", 20)));
+        report.write(Path.of(System.getProperty("load.reportDir", "target/load-test")));
+        log.info("Resultado de la prueba de carga:\n{}", report.summary());
+
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+        String maxP99Ms = System.getProperty("load.maxP99Ms");
+        report.getOperations().forEach((name, stats) -> {
+            assertTrue(stats.getCount() > 0, name + ": sin muestras");
+            assertTrue(stats.errorRate() <= maxErrorRate,
+                    name + ": tasa de errores " + stats.errorRate() + " supera " + maxErrorRate);
+            if (maxP99Ms != null) {
+                assertTrue(stats.percentileMs(99.0) <= Double.parseDouble(maxP99Ms),
+                        name + ": p99 " + stats.percentileMs(99.0) + " ms supera " + maxP99Ms + " ms");
+            }
+        });
+
+        String baseline = System.getProperty("load.baseline");
+        if (baseline != null) {
+            double maxRegression = Double.parseDouble(System.getProperty("load.maxRegression", "0.2"));
+            List<String> regressions = report.regressionsAgainst(Path.of(baseline), maxRegression);
+            assertTrue(regressions.isEmpty(), "Regresiones de latencia: " + regressions);
+        }
+    }
+
+    /**
+     * Siembra a través del servicio para que también llegue a {@code ProductReadStore}.
+     */
+    private List<Long> seedProducts(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> productService.create(new ProductRequest(
+                        "Producto " + i,
+                        BigDecimal.valueOf(i * 137L, 2),
+                        "Producto sembrado para la prueba de carga " + i)))
+                .map(response -> response.getData().getAttributes().getId())
+                .toList();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.demo.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("LongIntIndex Tests")
+class LongIntIndexTest {
+
+    @Test
+    @DisplayName("Debería guardar y reemplazar valores creciendo según sea necesario")
+    void shouldPutGetAndGrow() {
+        LongIntIndex index = new LongIntIndex(4);
+        for (long key = 1; key <= 10_000; key++) {
+            index.put(key * 31, (int) key);
+        }
+        index.put(31, 42);
+
+        assertEquals(10_000, index.size());
+        assertEquals(42, index.get(31));
+        assertEquals(9_999, index.get(9_999L * 31));
+        assertEquals(LongIntIndex.MISSING, index.get(7));
+        assertEquals(LongIntIndex.MISSING, index.get(-31));
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.demo.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.request.ProductRequest;
+import com.example.demo.response.ProductResponse;
+
+/**
+ * Arranca la aplicación con {@code app.products.read-store.type=mapped}: Hibernate crea el
+ * esquema e importa {@code mapped-store-seed.sql} antes de la carga de {@code @PostConstruct}.
+ */
+@SpringBootTest(properties = {
+        "app.products.read-store.type=mapped",
+        "app.products.mapped-store.initial-capacity=4KB",
+        "spring.datasource.url=jdbc:h2:mem:mapped_store;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.hbm2ddl.import_files=mapped-store-seed.sql"
+})
+@DisplayName("MappedProductReadStore Context Tests")
+class MappedProductReadStoreContextTest {
+
+    @Autowired
+    private ProductReadStore productReadStore;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Debería seleccionar el catálogo mapeado y cargarlo al arrancar")
+    void shouldSelectMappedStoreAndLoadCatalog() {
+        assertInstanceOf(MappedProductReadStore.class, productReadStore);
+        assertTrue(names(productService.findAll()).containsAll(List.of("Sembrado 1", "Sembrado 2", "Sembrado 3")));
+    }
+
+    @Test
+    @DisplayName("Debería servir los productos creados tras confirmar la transacción")
+    void shouldServeProductsCreatedThroughService() {
+        Long id = productService.create(new ProductRequest("Creado por la API", new BigDecimal("7.77"), "Nuevo"))
+                .getData().getAttributes().getId();
+
+        assertEquals("Creado por la API", productService.findById(id).getData().getAttributes().getName());
+        assertTrue(names(productService.findAll()).contains("Creado por la API"));
+    }
+
+    @Test
+    @DisplayName("Debería recuperar de la base de datos los productos creados por otra instancia")
+    void shouldFallBackToDatabaseForProductsCreatedElsewhere() {
+        jdbcTemplate.update("INSERT INTO products (name, price, description, status) VALUES (?, ?, NULL, TRUE)",
+                "Creado en otra instancia", new BigDecimal("3.00"));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM products WHERE name = ?", Long.class,
+                "Creado en otra instancia");
+
+        assertFalse(names(productService.findAll()).contains("Creado en otra instancia"));
+        assertEquals("Creado en otra instancia", productService.findById(id).getData().getAttributes().getName());
+        assertTrue(names(productService.findAll()).contains("Creado en otra instancia"));
+    }
+
+    private static List<String> names(List<ProductResponse> products) {
+        return products.stream().map(p -> p.getData().getAttributes().getName()).toList();
+    }
+}
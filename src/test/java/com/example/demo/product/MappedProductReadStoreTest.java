@@ -0,0 +1,213 @@
+package com.example.demo.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import com.example.demo.response.ProductResponse;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MappedProductReadStore Tests")
+class MappedProductReadStoreTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @TempDir
+    private Path tempDir;
+
+    private MappedProductReadStore store;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Debería cargar el catálogo desde la base de datos por bloques")
+    void shouldLoadCatalogInBatches() throws IOException {
+        // Given
+        List<ProductModel> firstBatch = products(1, MappedProductReadStore.LOAD_BATCH_SIZE);
+        List<ProductModel> secondBatch = products(MappedProductReadStore.LOAD_BATCH_SIZE + 1, 5);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class))).thenReturn(firstBatch);
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(eq((long) MappedProductReadStore.LOAD_BATCH_SIZE),
+                any(Limit.class))).thenReturn(secondBatch);
+        store = new MappedProductReadStore(productRepository, "", DataSize.ofKilobytes(4));
+
+        // When
+        store.load();
+
+        // Then
+        List<ProductResponse> all = store.findAll();
+        assertEquals(MappedProductReadStore.LOAD_BATCH_SIZE + 5, all.size());
+        assertEquals(1L, all.get(0).getData().getAttributes().getId());
+        assertEquals(MappedProductReadStore.LOAD_BATCH_SIZE + 5L, all.get(all.size() - 1).getData().getAttributes().getId());
+        verify(productRepository, times(2)).findByIdGreaterThanOrderByIdAsc(any(), any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Debería encontrar un producto por ID con todos sus atributos")
+    void shouldFindProductById() throws IOException {
+        // Given
+        store = emptyStore(DataSize.ofMegabytes(1));
+        store.add(product(7L, "Café ñandú", new BigDecimal("1234.50"), "Descripción con acentos"));
+        store.add(product(8L, "Sin descripción", new BigDecimal("3"), null));
+
+        // When
+        ProductResponse.Attributes first = store.findById(7L).orElseThrow().getData().getAttributes();
+        ProductResponse.Attributes second = store.findById(8L).orElseThrow().getData().getAttributes();
+
+        // Then
+        assertEquals(7L, first.getId());
+        assertEquals("Café ñandú", first.getName());
+        assertEquals(new BigDecimal("1234.50"), first.getPrice());
+        assertEquals("Descripción con acentos", first.getDescription());
+        assertEquals(new BigDecimal("3"), second.getPrice());
+        assertNull(second.getDescription());
+        assertTrue(store.findById(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Debería agregar el producto solo al confirmar la transacción")
+    void shouldAppendAfterCommit() throws IOException {
+        // Given
+        store = emptyStore(DataSize.ofMegabytes(1));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        store.add(product(1L, "Producto", BigDecimal.TEN, null));
+
+        // Then
+        assertTrue(store.findById(1L).isEmpty());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(store.findById(1L).isPresent());
+    }
+
+    @Test
+    @DisplayName("Debería buscar en la base de datos los IDs que no están en el índice")
+    void shouldFallBackToRepositoryOnIndexMiss() throws IOException {
+        // Given
+        store = emptyStore(DataSize.ofMegabytes(1));
+        when(productRepository.findById(5L))
+                .thenReturn(Optional.of(product(5L, "Creado en otra instancia", BigDecimal.ONE, null)));
+
+        // When
+        ProductResponse found = store.findById(5L).orElseThrow();
+
+        // Then
+        assertEquals("Creado en otra instancia", found.getData().getAttributes().getName());
+        assertTrue(store.findById(5L).isPresent());
+        assertEquals(1, store.findAll().size());
+        verify(productRepository, times(1)).findById(5L);
+    }
+
+    @Test
+    @DisplayName("Debería registrar el fallo al agregar tras el commit sin propagarlo")
+    void shouldNotPropagateAppendFailureAfterCommit() throws IOException {
+        // Given
+        store = emptyStore(DataSize.ofMegabytes(1));
+        TransactionSynchronizationManager.initSynchronization();
+        store.add(product(3L, "Sin precio", null, null));
+        when(productRepository.findById(3L))
+                .thenReturn(Optional.of(product(3L, "Sin precio", BigDecimal.TEN, null)));
+
+        // When
+        assertDoesNotThrow(() -> TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit));
+
+        // Then
+        assertTrue(store.findAll().isEmpty());
+        assertEquals(BigDecimal.TEN, store.findById(3L).orElseThrow().getData().getAttributes().getPrice());
+    }
+
+    @Test
+    @DisplayName("Debería ampliar el archivo mapeado cuando se llena")
+    void shouldGrowMappedFile() throws IOException {
+        // Given
+        store = emptyStore(DataSize.ofBytes(64));
+
+        // When
+        products(1, 5000).forEach(store::add);
+
+        // Then
+        assertEquals(5000, store.findAll().size());
+        assertEquals("Producto 4321", store.findById(4321L).orElseThrow().getData().getAttributes().getName());
+    }
+
+    @Test
+    @DisplayName("Debería usar el archivo configurado y borrar el temporal al cerrar")
+    void shouldHandleConfiguredAndTemporaryFiles() throws IOException {
+        // Given
+        Path configured = tempDir.resolve("catalog.store");
+        MappedProductReadStore fileStore = new MappedProductReadStore(productRepository, configured.toString(),
+                DataSize.ofKilobytes(4));
+        fileStore.close();
+        store = emptyStore(DataSize.ofKilobytes(4));
+        List<Path> before = listTempStores();
+
+        // When
+        store.close();
+        store = null;
+
+        // Then
+        assertTrue(Files.exists(configured));
+        assertEquals(before.size() - 1, listTempStores().size());
+    }
+
+    private MappedProductReadStore emptyStore(DataSize capacity) throws IOException {
+        when(productRepository.findByIdGreaterThanOrderByIdAsc(any(), any(Limit.class))).thenReturn(List.of());
+        MappedProductReadStore emptyStore = new MappedProductReadStore(productRepository, "", capacity);
+        emptyStore.load();
+        return emptyStore;
+    }
+
+    private static List<Path> listTempStores() throws IOException {
+        try (var files = Files.list(Path.of(System.getProperty("java.io.tmpdir")))) {
+            return files.filter(file -> file.getFileName().toString().startsWith("bk-products-")).toList();
+        }
+    }
+
+    private static List<ProductModel> products(long firstId, int count) {
+        List<ProductModel> products = new ArrayList<>(count);
+        LongStream.range(firstId, firstId + count)
+                .forEach(id -> products.add(product(id, "Producto " + id, BigDecimal.valueOf(id, 2), "Descripción " + id)));
+        return products;
+    }
+
+    private static ProductModel product(long id, String name, BigDecimal price, String description) {
+        ProductModel product = new ProductModel();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(price);
+        product.setDescription(description);
+        product.setStatus(true);
+        return product;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.demo.product;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.demo.request.ProductStatusUpdateRequest;
+
+@DataJpaTest
+@Import({ ProductService.class, JpaProductReadStore.class })
+@DisplayName("ProductRepository Tests")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Test
+    @DisplayName("Debería actualizar solo los IDs existentes de la lista")
+    void shouldUpdateStatusByIds() {
+        ProductModel first = save("Teclado", true);
+        ProductModel second = save("Mouse", true);
+        ProductModel untouched = save("Monitor", true);
+
+        int updated = productRepository.updateStatusByIds(List.of(first.getId(), second.getId(), 999_999L), false);
+
+        assertEquals(2, updated);
+        assertFalse(productRepository.findById(first.getId()).orElseThrow().getStatus());
+        assertFalse(productRepository.findById(second.getId()).orElseThrow().getStatus());
+        assertTrue(productRepository.findById(untouched.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    @DisplayName("Debería tratar %, _ y ! como literales con ESCAPE '!'")
+    void shouldEscapeLikeWildcards() {
+        save("Promo 50% off", true);
+        save("Promo 50 off", true);
+        save("PROV_1 caja", true);
+        save("provX1 caja", true);
+        save("Oferta! única", true);
+
+        assertEquals(1, productRepository.updateStatusByFilter("%50!%%", null, false));
+        assertEquals(1, productRepository.updateStatusByFilter("%prov!_1%", null, false));
+        assertEquals(1, productRepository.updateStatusByFilter("%oferta!!%", null, false));
+        assertEquals(3, productRepository.updateStatusByFilter(null, false, true));
+    }
+
+    @Test
+    @DisplayName("Debería ignorar el patrón nulo y filtrar solo por estado actual")
+    void shouldFilterByCurrentStatusWhenPatternIsNull() {
+        save("Activo 1", true);
+        save("Activo 2", true);
+        save("Inactivo", false);
+
+        assertEquals(2, productRepository.updateStatusByFilter(null, true, false));
+        assertEquals(3, productRepository.updateStatusByFilter(null, null, true));
+    }
+
+    @Test
+    @DisplayName("Debería combinar nombre y estado actual en el filtro")
+    void shouldCombineNameAndCurrentStatus() {
+        save("Silla gamer", true);
+        save("Silla oficina", false);
+        save("Mesa", true);
+
+        assertEquals(1, productRepository.updateStatusByFilter("%silla%", true, false));
+        assertEquals(0, productRepository.updateStatusByFilter("%silla%", true, false));
+    }
+
+    @Test
+    @DisplayName("Debería actualizar listas de IDs mayores que un bloque en varias sentencias")
+    void shouldUpdateChunkedIdListsThroughService() {
+        int total = ProductService.STATUS_UPDATE_CHUNK_SIZE * 2 + 500;
+        List<ProductModel> products = productRepository.saveAll(IntStream.range(0, total)
+                .mapToObj(i -> product("Producto " + i, true))
+                .toList());
+        List<Long> ids = new ArrayList<>(products.stream().map(ProductModel::getId).toList());
+        ids.addAll(ids.subList(0, 10));
+        ids.add(999_999L);
+
+        int updated = productService.updateStatus(new ProductStatusUpdateRequest(false, ids))
+                .getData().getAttributes().getUpdated();
+
+        assertEquals(total, updated);
+        assertEquals(total, productRepository.updateStatusByFilter(null, false, true));
+    }
+
+    private ProductModel save(String name, boolean status) {
+        return productRepository.save(product(name, status));
+    }
+
+    private static ProductModel product(String name, boolean status) {
+        ProductModel product = new ProductModel();
+        product.setName(name);
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStatus(status);
+        return product;
+    }
+}
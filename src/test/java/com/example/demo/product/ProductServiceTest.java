@@ -2,24 +2,29 @@ package com.example.demo.product;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.request.ProductRequest;
+import com.example.demo.request.ProductStatusUpdateRequest;
 import com.example.demo.response.ProductResponse;
+import com.example.demo.response.ProductStatusUpdateResponse;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductService Tests")
@@ -28,7 +33,6 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
-    @InjectMocks
     private ProductService productService;
 
     private ProductModel productModel;
@@ -36,6 +40,8 @@ class ProductServiceTest {
 
     @BeforeEach
     void setUp() {
+        productService = new ProductService(productRepository, new JpaProductReadStore(productRepository));
+
         productModel = new ProductModel();
         productModel.setId(1L);
         productModel.setName("Producto Test");
@@ -150,5 +156,60 @@ class ProductServiceTest {
 
         verify(productRepository, times(1)).findAll();
     }
-}
 
+    @Test
+    @DisplayName("Debería actualizar el estado por IDs en bloques")
+    void shouldUpdateStatusByIdsInChunks() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, ProductService.STATUS_UPDATE_CHUNK_SIZE + 500)
+                .boxed()
+                .collect(Collectors.toList());
+        ids.add(1L);
+        when(productRepository.updateStatusByIds(anyList(), eq(false)))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        // When
+        ProductStatusUpdateResponse response = productService.updateStatus(new ProductStatusUpdateRequest(false, ids));
+
+        // Then
+        assertEquals("product-status-update", response.getData().getType());
+        assertEquals(ProductService.STATUS_UPDATE_CHUNK_SIZE + 500, response.getData().getAttributes().getUpdated());
+        assertFalse(response.getData().getAttributes().getStatus());
+        verify(productRepository, times(2)).updateStatusByIds(anyList(), eq(false));
+        verify(productRepository, never()).updateStatusByFilter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Debería actualizar el estado por filtro escapando comodines")
+    void shouldUpdateStatusByFilter() {
+        // Given
+        ProductStatusUpdateRequest request = new ProductStatusUpdateRequest();
+        request.setStatus(false);
+        request.setNameContains("Prov_1%");
+        request.setCurrentStatus(true);
+        when(productRepository.updateStatusByFilter("%prov!_1!%%", true, false)).thenReturn(7);
+
+        // When
+        ProductStatusUpdateResponse response = productService.updateStatus(request);
+
+        // Then
+        assertEquals(7, response.getData().getAttributes().getUpdated());
+        verify(productRepository, never()).updateStatusByIds(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Debería actualizar el estado solo por estado actual")
+    void shouldUpdateStatusByCurrentStatusOnly() {
+        // Given
+        ProductStatusUpdateRequest request = new ProductStatusUpdateRequest();
+        request.setStatus(true);
+        request.setCurrentStatus(false);
+        when(productRepository.updateStatusByFilter(null, false, true)).thenReturn(3);
+
+        // When
+        ProductStatusUpdateResponse response = productService.updateStatus(request);
+
+        // Then
+        assertEquals(3, response.getData().getAttributes().getUpdated());
+    }
+}
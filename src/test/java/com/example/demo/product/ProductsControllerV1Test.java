@@ -1,5 +1,6 @@
 package com.example.demo.product;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -8,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,11 +22,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import com.example.demo.config.SmileConfig;
 import com.example.demo.exception.GlobalExceptionHandler;
 import com.example.demo.exception.ResourceNotFoundException;
 import com.example.demo.request.ProductRequest;
+import com.example.demo.request.ProductStatusUpdateRequest;
 import com.example.demo.response.ProductResponse;
+import com.example.demo.response.ProductStatusUpdateResponse;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ProductsControllerV1 Tests")
@@ -186,5 +193,102 @@ class ProductsControllerV1Test {
 
         verify(productService, times(1)).findAll();
     }
-}
 
+    @Test
+    @DisplayName("GET /api/v1/products - Debería responder en Smile cuando el cliente lo solicita")
+    void shouldGetAllProductsAsSmile() throws Exception {
+        // Given
+        when(productService.findAll()).thenReturn(Arrays.asList(productResponse));
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/products")
+                .accept(SmileConfig.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(SmileConfig.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode products = smileMapper.readTree(body);
+        assertEquals(1, products.size());
+        assertEquals("product", products.get(0).at("/data/type").asText());
+        assertEquals(1L, products.get(0).at("/data/attributes/id").asLong());
+        assertEquals("Producto Test", products.get(0).at("/data/attributes/name").asText());
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/products/status - Debería retornar la cantidad de productos actualizados")
+    void shouldUpdateProductStatus() throws Exception {
+        // Given
+        ProductStatusUpdateRequest request = new ProductStatusUpdateRequest(false, Arrays.asList(1L, 2L));
+        when(productService.updateStatus(any(ProductStatusUpdateRequest.class)))
+                .thenReturn(new ProductStatusUpdateResponse(false, 2));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.type").value("product-status-update"))
+                .andExpect(jsonPath("$.data.attributes.status").value(false))
+                .andExpect(jsonPath("$.data.attributes.updated").value(2));
+
+        verify(productService, times(1)).updateStatus(any(ProductStatusUpdateRequest.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/products/status - Debería retornar 400 sin IDs ni filtro")
+    void shouldReturnBadRequestWhenStatusUpdateHasNoTarget() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": false}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(
+                        "targetValid: Debe indicar ids o un filtro (nameContains, currentStatus), pero no ambos"));
+
+        verify(productService, never()).updateStatus(any(ProductStatusUpdateRequest.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/products/status - Debería retornar 400 con IDs y filtro a la vez")
+    void shouldReturnBadRequestWhenStatusUpdateHasIdsAndFilter() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": false, \"ids\": [1], \"currentStatus\": true}"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).updateStatus(any(ProductStatusUpdateRequest.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/products/status - Debería retornar 400 con IDs nulos")
+    void shouldReturnBadRequestWhenStatusUpdateHasNullIds() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": false, \"ids\": [1, null]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("ids[1]: Los IDs no pueden ser nulos"));
+
+        verify(productService, never()).updateStatus(any(ProductStatusUpdateRequest.class));
+    }
+
+    @Test
+    @DisplayName("PATCH /api/v1/products/status - Debería retornar 400 con demasiados IDs")
+    void shouldReturnBadRequestWhenStatusUpdateHasTooManyIds() throws Exception {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, ProductStatusUpdateRequest.MAX_IDS + 1).boxed().toList();
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/products/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ProductStatusUpdateRequest(false, ids))))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("ids: No se pueden actualizar más de 10000 IDs por petición"));
+
+        verify(productService, never()).updateStatus(any(ProductStatusUpdateRequest.class));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.response;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.example.demo.config.SmileConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Compara JSON y Smile al codificar y decodificar un listado de {@link ProductResponse}.
+ * Los mappers salen de {@link JacksonAutoConfiguration} y {@link SmileConfig}, igual que en
+ * la aplicación; el tamaño de cada payload se informa como contador {@code payloadBytes}.
+ * Ejecutar con {@code ./mvnw -Pbenchmark test -DskipTests -Djmh.include=ProductPayloadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductPayloadBenchmark {
+
+    private static final TypeReference<List<DecodedProduct>> LISTING = new TypeReference<>() {
+    };
+
+    @Param({ "json", "smile" })
+    private String format;
+
+    @Param({ "10000" })
+    private int products;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper mapper;
+    private List<ProductResponse> listing;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class, SmileConfig.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                .run();
+        mapper = "smile".equals(format)
+                ? context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper()
+                : context.getBean(ObjectMapper.class);
+        listing = new ArrayList<>(products);
+        for (long id = 1; id <= products; id++) {
+            listing.add(new ProductResponse(id, "Producto " + id, BigDecimal.valueOf(id * 137, 2),
+                    "Descripción del producto número " + id));
+        }
+        payload = mapper.writeValueAsBytes(listing);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize size) throws IOException {
+        byte[] encoded = mapper.writeValueAsBytes(listing);
+        size.record(encoded.length);
+        return encoded;
+    }
+
+    @Benchmark
+    public List<DecodedProduct> decode(PayloadSize size) throws IOException {
+        size.record(payload.length);
+        return mapper.readValue(payload, LISTING);
+    }
+
+    /**
+     * Contador auxiliar de JMH con el tamaño de un payload. JMH suma los contadores
+     * {@code EVENTS} de todas las iteraciones, así que solo la primera iteración de
+     * medición lo asigna y las demás lo dejan en cero.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+        private boolean recording;
+        private boolean recorded;
+
+        @Setup(Level.Iteration)
+        public void reset(IterationParams params) {
+            payloadBytes = 0;
+            recording = params.getType() == IterationType.MEASUREMENT && !recorded;
+            recorded |= recording;
+        }
+
+        void record(int bytes) {
+            if (recording) {
+                payloadBytes = bytes;
+            }
+        }
+    }
+
+    /**
+     * DTO del lado del cliente con la misma estructura que {@link ProductResponse}.
+     */
+    public record DecodedProduct(Data data) {
+        public record Data(String type, Attributes attributes) {
+        }
+
+        public record Attributes(Long id, String name, BigDecimal price, String description) {
+        }
+    }
+}
@@ -0,0 +1,3 @@
+INSERT INTO products (name, price, description, status) VALUES ('Sembrado 1', 10.50, 'Cargado al arrancar', TRUE);
+INSERT INTO products (name, price, description, status) VALUES ('Sembrado 2', 20.00, NULL, TRUE);
+INSERT INTO products (name, price, description, status) VALUES ('Sembrado 3', 5.25, 'Inactivo', FALSE);